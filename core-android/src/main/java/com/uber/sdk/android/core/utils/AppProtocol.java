@@ -10,7 +10,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import android.util.Base64;
-import android.util.Pair;
 import com.uber.sdk.android.core.SupportedAppType;
 
 import java.security.MessageDigest;
@@ -45,6 +44,18 @@ public class AppProtocol {
 
     private static final HashSet<String> validAppSignatureHashes = buildAppSignatureHashes();
 
+    @NonNull
+    private final SignatureCache signatureCache;
+
+    public AppProtocol() {
+        this(SignatureCache.getInstance());
+    }
+
+    @VisibleForTesting
+    AppProtocol(@NonNull SignatureCache signatureCache) {
+        this.signatureCache = signatureCache;
+    }
+
     @NonNull
     private static HashSet<String> buildAppSignatureHashes() {
         HashSet<String> set = new HashSet<>();
@@ -112,6 +123,7 @@ public class AppProtocol {
      * Find the installed and validated packages for a {@link SupportedAppType}.
      * <p>
      * This will validate the signature and minimum version of the installed package or exclude it from returned list.
+     * Packages are looked up in the {@link InstalledAppsSnapshot} rather than queried from the package manager.
      *
      * @param context         A {@link Context}.
      * @param supportedApp   The {@link SupportedAppType}.
@@ -123,12 +135,12 @@ public class AppProtocol {
             @NonNull Context context, @NonNull SupportedAppType supportedApp, int minimumVersion) {
         List<PackageInfo> packageInfos = new ArrayList<>();
 
-        List<Pair<SupportedAppType, PackageInfo>> installedApps = getInstalledPackagesByApp(context, supportedApp);
-
-        for (Pair<SupportedAppType, PackageInfo> installedApp : installedApps) {
-            PackageInfo packageInfo = installedApp.second;
+        InstalledAppsSnapshot snapshot = InstalledAppsSnapshot.getInstance(context);
+        for (String packageName : getSupportedPackageNames().get(supportedApp)) {
+            InstalledAppsSnapshot.InstalledApp installedApp = snapshot.get(packageName);
+            PackageInfo packageInfo = installedApp.getPackageInfo();
             if (packageInfo != null
-                    && validateSignature(context, packageInfo.packageName)
+                    && (installedApp.isSignatureValid() || isDebug(context))
                     && validateMinimumVersion(context, packageInfo, minimumVersion)) {
                 packageInfos.add(packageInfo);
             }
@@ -136,20 +148,6 @@ public class AppProtocol {
         return packageInfos;
     }
 
-    @NonNull
-    private List<Pair<SupportedAppType, PackageInfo>> getInstalledPackagesByApp(
-            @NonNull Context context, @NonNull SupportedAppType selectedApp) {
-        List<Pair<SupportedAppType, PackageInfo>> installedPackages = new ArrayList<>();
-
-        for (String installedPackage : getSupportedPackageNames().get(selectedApp)) {
-            if (PackageManagers.isPackageAvailable(context, installedPackage)) {
-                installedPackages.add(
-                        Pair.create(selectedApp, PackageManagers.getPackageInfo(context, installedPackage)));
-            }
-        }
-        return installedPackages;
-    }
-
     /**
      * @return true if the device supports App Links
      */
@@ -158,7 +156,8 @@ public class AppProtocol {
     }
 
     /**
-     * Validates the app signature required or returns true if in debug.
+     * Validates the app signature required or returns true if in debug. The result is reused until the package is
+     * updated.
      */
     public boolean validateSignature(@NonNull Context context, @NonNull String packageName) {
         if (isDebug(context)) {
@@ -173,6 +172,18 @@ public class AppProtocol {
             return false;
         }
 
+        return signatureCache.isValid(packageName, packageInfo);
+    }
+
+    /**
+     * @return true if every signature of {@code packageInfo}, read with {@link PackageManager#GET_SIGNATURES}, is a
+     * known Uber signature.
+     */
+    static boolean hasValidSignatures(@NonNull PackageInfo packageInfo) {
+        if (packageInfo.signatures == null) {
+            return false;
+        }
+
         for (Signature signature : packageInfo.signatures) {
             String hashedSignature = Utility.sha1hash(signature.toByteArray());
             if (!validAppSignatureHashes.contains(hashedSignature)) {
@@ -183,10 +194,16 @@ public class AppProtocol {
     }
 
     /**
-     * @return the Application Signature of the associated {@link Context} or null if it cannot be fetched.
+     * @return the Application Signature of the associated {@link Context} or null if it cannot be fetched. The
+     * signature is computed once per process.
      */
     @Nullable
     public String getAppSignature(@NonNull Context context) {
+        final String cachedSignature = signatureCache.getAppSignature(context.getPackageName());
+        if (cachedSignature != null) {
+            return cachedSignature;
+        }
+
         final PackageInfo packageInfo;
         try {
             packageInfo = context.getPackageManager().getPackageInfo(context.getPackageName(),
@@ -207,7 +224,9 @@ public class AppProtocol {
         }
 
         messageDigest.update(packageInfo.signatures[0].toByteArray());
-        return Base64.encodeToString(messageDigest.digest(), Base64.NO_WRAP);
+        final String appSignature = Base64.encodeToString(messageDigest.digest(), Base64.NO_WRAP);
+        signatureCache.putAppSignature(context.getPackageName(), appSignature);
+        return appSignature;
     }
 
     /**
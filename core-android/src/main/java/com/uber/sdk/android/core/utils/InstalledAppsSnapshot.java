@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.core.utils;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A process wide snapshot of the installed Uber and Uber Eats packages, their versions and whether their signatures
+ * are valid. The package manager is only queried on a background thread: the snapshot is read when first requested,
+ * which buttons do when created, and each package is read again when a package broadcast reports it was added,
+ * replaced or removed, so {@link AppProtocol} checks are memory lookups.
+ */
+public final class InstalledAppsSnapshot {
+
+    private static InstalledAppsSnapshot instance;
+
+    @NonNull
+    private final Context context;
+    @NonNull
+    private final Executor executor;
+    @NonNull
+    private final List<String> packageNames;
+    @NonNull
+    private final Map<String, InstalledApp> apps = new HashMap<>();
+    /**
+     * Packages never read yet whose read is queued on the executor.
+     */
+    @NonNull
+    private final Set<String> pendingReads = new HashSet<>();
+    /**
+     * Incremented by every invalidation, so a read racing with a package change does not replace a later one.
+     */
+    private int version;
+
+    @VisibleForTesting
+    InstalledAppsSnapshot(@NonNull Context context, @NonNull Executor executor, @NonNull List<String> packageNames) {
+        this.context = context;
+        this.executor = executor;
+        this.packageNames = packageNames;
+    }
+
+    /**
+     * @return the snapshot shared by the process. The first call registers for package broadcasts and starts reading
+     * the packages in the background.
+     */
+    @NonNull
+    public static synchronized InstalledAppsSnapshot getInstance(@NonNull Context context) {
+        if (instance == null) {
+            final List<String> packageNames = new ArrayList<>(Arrays.asList(AppProtocol.RIDER_PACKAGE_NAMES));
+            packageNames.addAll(Arrays.asList(AppProtocol.EATS_PACKAGE_NAMES));
+
+            instance = new InstalledAppsSnapshot(context.getApplicationContext(),
+                    Executors.newSingleThreadExecutor(new ThreadFactory() {
+                        @Override
+                        public Thread newThread(@NonNull Runnable runnable) {
+                            Thread thread = new Thread(runnable, "UberSdk-InstalledApps");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    }),
+                    packageNames);
+            instance.registerReceiver();
+            instance.refresh();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the last known state of {@code packageName}, which is kept while a package change is read again. A
+     * package never read yet, e.g. when called before the initial background read completes, is waited for; the
+     * package manager is never queried on the calling thread.
+     */
+    @NonNull
+    public InstalledApp get(@NonNull String packageName) {
+        final List<String> toRead;
+        synchronized (this) {
+            final InstalledApp app = apps.get(packageName);
+            if (app != null) {
+                return app;
+            }
+            toRead = pendingReads.add(packageName) ? Collections.singletonList(packageName) : null;
+        }
+        if (toRead != null) {
+            readInBackground(toRead);
+        }
+
+        boolean interrupted = false;
+        try {
+            synchronized (this) {
+                InstalledApp app;
+                while ((app = apps.get(packageName)) == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                return app;
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Reads every tracked package not read or queued yet on the background executor.
+     */
+    void refresh() {
+        final List<String> toRead = new ArrayList<>();
+        synchronized (this) {
+            for (String packageName : packageNames) {
+                if (!apps.containsKey(packageName) && pendingReads.add(packageName)) {
+                    toRead.add(packageName);
+                }
+            }
+        }
+        if (!toRead.isEmpty()) {
+            readInBackground(toRead);
+        }
+    }
+
+    /**
+     * Reads the state of {@code packageName} again on the background executor. The previous state is returned until
+     * then.
+     */
+    void invalidate(@NonNull final String packageName) {
+        if (!packageNames.contains(packageName)) {
+            return;
+        }
+
+        synchronized (this) {
+            version++;
+        }
+        readInBackground(Collections.singletonList(packageName));
+    }
+
+    private void readInBackground(@NonNull final List<String> packageNames) {
+        final int readVersion;
+        synchronized (this) {
+            readVersion = version;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                for (String packageName : packageNames) {
+                    read(packageName, readVersion);
+                }
+            }
+        });
+    }
+
+    private void read(@NonNull String packageName, int readVersion) {
+        PackageInfo packageInfo;
+        try {
+            // A single call returns both the version and the signatures.
+            packageInfo = context.getPackageManager().getPackageInfo(packageName,
+                    PackageManager.GET_META_DATA | PackageManager.GET_SIGNATURES);
+        } catch (PackageManager.NameNotFoundException e) {
+            packageInfo = null;
+        } catch (RuntimeException e) {
+            // The package manager died. Reported as not installed so callers waiting for the package return.
+            packageInfo = null;
+        }
+
+        final InstalledApp app = new InstalledApp(packageInfo,
+                packageInfo != null && SignatureCache.getInstance().isValid(packageName, packageInfo));
+        synchronized (this) {
+            // A read older than the last invalidation is only kept until the read that follows it completes.
+            if (readVersion == version || !apps.containsKey(packageName)) {
+                apps.put(packageName, app);
+            }
+            pendingReads.remove(packageName);
+            notifyAll();
+        }
+    }
+
+    private void registerReceiver() {
+        final IntentFilter filter = new IntentFilter();
+        filter.addAction(Intent.ACTION_PACKAGE_ADDED);
+        filter.addAction(Intent.ACTION_PACKAGE_REPLACED);
+        filter.addAction(Intent.ACTION_PACKAGE_REMOVED);
+        filter.addDataScheme("package");
+
+        context.registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                final Uri data = intent.getData();
+                if (data != null && data.getSchemeSpecificPart() != null) {
+                    invalidate(data.getSchemeSpecificPart());
+                }
+            }
+        }, filter);
+    }
+
+    /**
+     * The state of a tracked package.
+     */
+    public static final class InstalledApp {
+
+        @Nullable
+        private final PackageInfo packageInfo;
+        private final boolean signatureValid;
+
+        InstalledApp(@Nullable PackageInfo packageInfo, boolean signatureValid) {
+            this.packageInfo = packageInfo;
+            this.signatureValid = signatureValid;
+        }
+
+        public boolean isInstalled() {
+            return packageInfo != null;
+        }
+
+        /**
+         * @return the {@link PackageInfo} of the package, or null if it is not installed.
+         */
+        @Nullable
+        public PackageInfo getPackageInfo() {
+            return packageInfo;
+        }
+
+        /**
+         * @return true if every signature of the package is a known Uber signature.
+         */
+        public boolean isSignatureValid() {
+            return signatureValid;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.core.utils;
+
+import android.content.pm.PackageInfo;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Remembers signature checks for the life of the process. A package's validation result is kept until its
+ * {@code lastUpdateTime} or {@code versionCode} changes; the host app's own signature hash cannot change while the
+ * process runs and is kept once computed.
+ */
+final class SignatureCache {
+
+    private static final SignatureCache INSTANCE = new SignatureCache();
+
+    @NonNull
+    private final Map<String, Validation> validations = new HashMap<>();
+    @NonNull
+    private final Map<String, String> appSignatures = new HashMap<>();
+
+    @NonNull
+    static SignatureCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param packageInfo the package {@code packageName}, read with
+     * {@link android.content.pm.PackageManager#GET_SIGNATURES}.
+     * @return true if every signature of the package is a known Uber signature.
+     */
+    boolean isValid(@NonNull String packageName, @NonNull PackageInfo packageInfo) {
+        synchronized (this) {
+            final Validation validation = validations.get(packageName);
+            if (validation != null && validation.matches(packageInfo)) {
+                return validation.valid;
+            }
+        }
+
+        final boolean valid = AppProtocol.hasValidSignatures(packageInfo);
+        synchronized (this) {
+            validations.put(packageName, new Validation(packageInfo, valid));
+        }
+        return valid;
+    }
+
+    @Nullable
+    synchronized String getAppSignature(@NonNull String packageName) {
+        return appSignatures.get(packageName);
+    }
+
+    synchronized void putAppSignature(@NonNull String packageName, @NonNull String appSignature) {
+        appSignatures.put(packageName, appSignature);
+    }
+
+    private static final class Validation {
+
+        private final long lastUpdateTime;
+        private final int versionCode;
+        private final boolean valid;
+
+        Validation(@NonNull PackageInfo packageInfo, boolean valid) {
+            this.lastUpdateTime = packageInfo.lastUpdateTime;
+            this.versionCode = packageInfo.versionCode;
+            this.valid = valid;
+        }
+
+        boolean matches(@NonNull PackageInfo packageInfo) {
+            return lastUpdateTime == packageInfo.lastUpdateTime && versionCode == packageInfo.versionCode;
+        }
+    }
+}
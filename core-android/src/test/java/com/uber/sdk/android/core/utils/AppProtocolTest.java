@@ -66,7 +66,7 @@ public class AppProtocolTest extends RobolectricTestBase {
     @Before
     public void setUp() {
         activity = spy(Robolectric.setupActivity(Activity.class));
-        appProtocol = new AppProtocol();
+        appProtocol = new AppProtocol(new SignatureCache());
     }
 
     @Test
@@ -89,6 +89,36 @@ public class AppProtocolTest extends RobolectricTestBase {
         assertFalse(appProtocol.validateSignature(activity, AppProtocol.RIDER_PACKAGE_NAMES[0]));
     }
 
+    @Test
+    public void validateSignature_whenPackageUnchanged_shouldReuseResult() {
+        stubAppSignature(GOOD_SIGNATURE);
+        assertTrue(appProtocol.validateSignature(activity, AppProtocol.RIDER_PACKAGE_NAMES[0]));
+
+        packageInfo.signatures = null;
+        assertTrue(appProtocol.validateSignature(activity, AppProtocol.RIDER_PACKAGE_NAMES[0]));
+    }
+
+    @Test
+    public void validateSignature_whenPackageUpdated_shouldValidateAgain() {
+        stubAppSignature(GOOD_SIGNATURE);
+        assertTrue(appProtocol.validateSignature(activity, AppProtocol.RIDER_PACKAGE_NAMES[0]));
+
+        packageInfo.signatures = null;
+        packageInfo.lastUpdateTime = 1L;
+        assertFalse(appProtocol.validateSignature(activity, AppProtocol.RIDER_PACKAGE_NAMES[0]));
+    }
+
+    @Test
+    public void getApplicationSignature_whenCalledAgain_shouldReuseSignature() throws Exception {
+        stubAppSignature(GOOD_SIGNATURE);
+        assertThat(appProtocol.getAppSignature(activity)).isEqualTo(GOOD_HASH);
+
+        doThrow(new PackageManager.NameNotFoundException()).when(packageManager)
+                .getPackageInfo(AppProtocol.RIDER_PACKAGE_NAMES[0], PackageManager.GET_SIGNATURES);
+
+        assertThat(appProtocol.getAppSignature(activity)).isEqualTo(GOOD_HASH);
+    }
+
     @Test
     public void getApplicationSignature_whenValidPackageSignature_shouldSucceed() {
         stubAppSignature(GOOD_SIGNATURE);
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.core.utils;
+
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageInfo;
+import android.content.pm.Signature;
+import androidx.annotation.NonNull;
+import com.uber.sdk.android.core.RobolectricTestBase;
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.shadows.ShadowPackageManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robolectric.Shadows.shadowOf;
+
+public class InstalledAppsSnapshotTest extends RobolectricTestBase {
+
+    private static final String PACKAGE_NAME = AppProtocol.RIDER_PACKAGE_NAMES[3];
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            command.run();
+        }
+    };
+
+    private ShadowPackageManager packageManager;
+    private InstalledAppsSnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        packageManager = shadowOf(RuntimeEnvironment.application.getPackageManager());
+        snapshot = new InstalledAppsSnapshot(RuntimeEnvironment.application, DIRECT_EXECUTOR,
+                Collections.singletonList(PACKAGE_NAME));
+    }
+
+    @Test
+    public void get_whenNotInstalled_shouldReturnNotInstalled() {
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isFalse();
+        assertThat(snapshot.get(PACKAGE_NAME).getPackageInfo()).isNull();
+    }
+
+    @Test
+    public void get_whenInstalled_shouldReturnPackageInfo() {
+        installPackage(42);
+
+        InstalledAppsSnapshot.InstalledApp app = snapshot.get(PACKAGE_NAME);
+
+        assertThat(app.isInstalled()).isTrue();
+        assertThat(app.getPackageInfo().versionCode).isEqualTo(42);
+        assertThat(app.isSignatureValid()).isFalse();
+    }
+
+    @Test
+    public void get_whenNotRead_shouldWaitForBackgroundRead() {
+        installPackage(42);
+        final AtomicInteger readCount = new AtomicInteger();
+        snapshot = new InstalledAppsSnapshot(RuntimeEnvironment.application, new Executor() {
+            @Override
+            public void execute(@NonNull Runnable command) {
+                readCount.incrementAndGet();
+                new Thread(command).start();
+            }
+        }, Collections.singletonList(PACKAGE_NAME));
+
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isTrue();
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isTrue();
+        assertThat(readCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void invalidate_whenReadPending_shouldReturnLastKnownState() {
+        final List<Runnable> reads = new ArrayList<>();
+        snapshot = new InstalledAppsSnapshot(RuntimeEnvironment.application, new Executor() {
+            @Override
+            public void execute(@NonNull Runnable command) {
+                reads.add(command);
+            }
+        }, Collections.singletonList(PACKAGE_NAME));
+        snapshot.refresh();
+        reads.remove(0).run();
+        installPackage(42);
+
+        snapshot.invalidate(PACKAGE_NAME);
+
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isFalse();
+        reads.remove(0).run();
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isTrue();
+    }
+
+    @Test
+    public void get_whenPackageChangesWithoutBroadcast_shouldReturnSnapshot() {
+        snapshot.refresh();
+        installPackage(42);
+
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isFalse();
+    }
+
+    @Test
+    public void invalidate_shouldReadPackageAgain() {
+        snapshot.refresh();
+        installPackage(42);
+
+        snapshot.invalidate(PACKAGE_NAME);
+
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isTrue();
+    }
+
+    @Test
+    public void invalidate_whenPackageRemoved_shouldReturnNotInstalled() {
+        installPackage(42);
+        snapshot.refresh();
+        packageManager.removePackage(PACKAGE_NAME);
+
+        snapshot.invalidate(PACKAGE_NAME);
+
+        assertThat(snapshot.get(PACKAGE_NAME).isInstalled()).isFalse();
+    }
+
+    private void installPackage(int versionCode) {
+        PackageInfo packageInfo = new PackageInfo();
+        packageInfo.packageName = PACKAGE_NAME;
+        packageInfo.versionCode = versionCode;
+        packageInfo.applicationInfo = new ApplicationInfo();
+        packageInfo.applicationInfo.packageName = PACKAGE_NAME;
+        packageInfo.signatures = new Signature[] { new Signature("0123456789abcdef") };
+        packageManager.installPackage(packageInfo);
+    }
+}
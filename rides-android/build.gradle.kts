@@ -41,11 +41,15 @@ dependencies {
   implementation(libs.appCompat)
   implementation(libs.annotations)
   implementation(libs.chrometabs)
+  api(libs.kotlin.coroutines.core)
   implementation(project(":core-android"))
+  api(project(":rides-deeplink"))
 
   testImplementation(libs.junit)
   testImplementation(libs.assertj)
   testImplementation(libs.mockito)
+  testImplementation(libs.mockito.kotlin)
+  testImplementation(libs.kotlin.coroutines.test)
   testImplementation(libs.robolectric)
   testImplementation(libs.guava)
   testImplementation(libs.wiremock)
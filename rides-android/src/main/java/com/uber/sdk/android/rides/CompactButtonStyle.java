@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.core.content.ContextCompat;
+
+import com.uber.sdk.android.core.UberStyle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolved resources of a {@link CompactRideRequestButton} style. Resolving happens once
+ * per style and configuration and is shared by every button, so binding a list row does not read a
+ * {@link android.content.res.TypedArray} or lay out its label. Instances are only used from the main thread.
+ */
+final class CompactButtonStyle {
+
+    private static final Map<String, CompactButtonStyle> CACHE = new HashMap<>();
+
+    private static final int STALE_ALPHA = 128;
+
+    @DrawableRes
+    final int backgroundResource;
+    @NonNull
+    final TextPaint labelPaint;
+    @NonNull
+    final TextPaint estimatePaint;
+    @NonNull
+    final TextPaint staleEstimatePaint;
+    @NonNull
+    private final Drawable.ConstantState badge;
+    final int padding;
+    final int badgePadding;
+    final int minHeight;
+    @NonNull
+    final String defaultLabel;
+    @NonNull
+    final String estimateLabel;
+    @NonNull
+    final Layout defaultLabelLayout;
+    @NonNull
+    final Layout estimateLabelLayout;
+
+    private CompactButtonStyle(@NonNull Context context, @NonNull UberStyle uberStyle) {
+        final Resources resources = context.getResources();
+        final boolean white = uberStyle == UberStyle.WHITE;
+        final int textColor = ContextCompat.getColor(context,
+                white ? com.uber.sdk.android.core.R.color.uber_black : com.uber.sdk.android.core.R.color.uber_white);
+
+        backgroundResource = white
+                ? com.uber.sdk.android.core.R.drawable.uber_button_background_selector_white
+                : com.uber.sdk.android.core.R.drawable.uber_button_background_selector_black;
+        labelPaint = createPaint(textColor,
+                resources.getDimension(com.uber.sdk.android.core.R.dimen.ub__text_size));
+        estimatePaint = createPaint(textColor,
+                resources.getDimension(com.uber.sdk.android.core.R.dimen.ub__secondary_text_size));
+        staleEstimatePaint = new TextPaint(estimatePaint);
+        staleEstimatePaint.setAlpha(STALE_ALPHA);
+        padding = resources.getDimensionPixelSize(com.uber.sdk.android.core.R.dimen.ub__standard_padding);
+        badgePadding = resources.getDimensionPixelSize(com.uber.sdk.android.core.R.dimen.ub__small_padding);
+        minHeight = resources.getDimensionPixelSize(R.dimen.ub__ride_request_button_height);
+        defaultLabel = resources.getString(R.string.ub__ride_with_uber);
+        estimateLabel = resources.getString(R.string.ub__get_ride);
+        defaultLabelLayout = createLayout(defaultLabel, labelPaint);
+        estimateLabelLayout = createLayout(estimateLabel, labelPaint);
+
+        final Drawable badgeDrawable = ContextCompat.getDrawable(context,
+                com.uber.sdk.android.core.R.drawable.uber_badge).mutate();
+        if (white) {
+            badgeDrawable.setColorFilter(new PorterDuffColorFilter(textColor, PorterDuff.Mode.SRC_IN));
+        }
+        badge = badgeDrawable.getConstantState();
+    }
+
+    /**
+     * @return the style for the configuration of {@code context}, resolved on first use. Resources are resolved from
+     * {@code context} itself, so an activity overriding its configuration gets its own style.
+     */
+    @NonNull
+    static CompactButtonStyle get(@NonNull Context context, @NonNull UberStyle uberStyle) {
+        final Configuration configuration = context.getResources().getConfiguration();
+        final String key = uberStyle.getValue() + ":" + configuration.densityDpi + ":" + configuration.fontScale
+                + ":" + configuration.getLocales().toLanguageTags() + ":" + configuration.uiMode;
+        CompactButtonStyle style = CACHE.get(key);
+        if (style == null) {
+            style = new CompactButtonStyle(context, uberStyle);
+            CACHE.put(key, style);
+        }
+        return style;
+    }
+
+    /**
+     * @return a badge drawable sharing the cached bitmap.
+     */
+    @NonNull
+    Drawable newBadge(@NonNull Resources resources) {
+        return badge.newDrawable(resources);
+    }
+
+    /**
+     * @return a single line layout as wide as {@code text}. Safe to call from any thread with a paint owned by it.
+     */
+    @NonNull
+    static Layout createLayout(@NonNull CharSequence text, @NonNull TextPaint paint) {
+        return createLayout(text, paint, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return a single line layout as wide as {@code text}, ellipsized at the end to at most {@code maxWidth}.
+     */
+    @NonNull
+    static Layout createLayout(@NonNull CharSequence text, @NonNull TextPaint paint, int maxWidth) {
+        final int width = Math.min((int) Math.ceil(Layout.getDesiredWidth(text, paint)), maxWidth);
+        return StaticLayout.Builder.obtain(text, 0, text.length(), paint, width)
+                .setIncludePad(false)
+                .setMaxLines(1)
+                .setEllipsize(TextUtils.TruncateAt.END)
+                .setEllipsizedWidth(width)
+                .build();
+    }
+
+    @NonNull
+    private static TextPaint createPaint(int color, float textSize) {
+        final TextPaint paint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+        paint.setColor(color);
+        paint.setTextSize(textSize);
+        paint.setTypeface(Typeface.DEFAULT);
+        return paint;
+    }
+}
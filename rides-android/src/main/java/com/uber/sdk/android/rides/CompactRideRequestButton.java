@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
+import android.text.Layout;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.AttributeSet;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.android.core.Deeplink;
+import com.uber.sdk.android.core.UberSdk;
+import com.uber.sdk.android.core.UberStyle;
+import com.uber.sdk.android.core.utils.InstalledAppsSnapshot;
+import com.uber.sdk.android.rides.internal.EstimateSnapshot;
+import com.uber.sdk.android.rides.internal.EstimateTextFormatter;
+import com.uber.sdk.android.rides.internal.RideRequestButtonController;
+import com.uber.sdk.android.rides.internal.RideRequestButtonControllerPool;
+import com.uber.sdk.android.rides.internal.RideRequestButtonView;
+import com.uber.sdk.core.client.Session;
+import com.uber.sdk.core.client.SessionConfiguration;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkNotNull;
+
+/**
+ * A single-view alternative to {@link RideRequestButton} for long lists. It draws the badge, label and estimates
+ * itself from text layouts built in the background when the estimates change, and resolves its style once per
+ * configuration for every button, so a row has one view to inflate, measure and lay out. It loads estimates like
+ * {@link RideRequestButton} and supports the same {@link #bind(RideParameters)} and {@link #unbind()} recycling API.
+ */
+public class CompactRideRequestButton extends View implements RideRequestButtonView {
+
+    private static final String USER_AGENT_BUTTON = String.format("rides-android-v%s-button",
+            BuildConfig.VERSION_NAME);
+
+    @NonNull
+    private final CompactButtonStyle style;
+    @NonNull
+    private final Drawable badge;
+
+    @NonNull
+    private RideParameters rideParameters = new RideParameters.Builder().build();
+    private Session session;
+    private RideRequestButtonCallback callback;
+    private Deeplink.Fallback deeplinkFallback = Deeplink.Fallback.APP_INSTALL;
+    private RideRequestButtonController controller;
+    private boolean rideInformationRequested;
+    @NonNull
+    private EstimateTextFormatter textFormatter = EstimateTextFormatter.getInstance();
+    @Nullable
+    private EstimateTextFormatter.Request pendingEstimates;
+
+    @NonNull
+    private Layout labelLayout;
+    @Nullable
+    private Layout timeLayout;
+    @Nullable
+    private Layout priceLayout;
+    /**
+     * {@link #timeLayout} and {@link #priceLayout} ellipsized to the width left next to the label, as drawn.
+     */
+    @Nullable
+    private Layout fittedTimeLayout;
+    @Nullable
+    private Layout fittedPriceLayout;
+    /**
+     * Width the fitted layouts were built for, or -1 if they need fitting again.
+     */
+    private int fittedWidth = -1;
+
+    public CompactRideRequestButton(Context context) {
+        this(context, null);
+    }
+
+    public CompactRideRequestButton(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public CompactRideRequestButton(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+
+        final UberStyle uberStyle = attrs != null
+                ? UberStyle.getStyleFromAttribute(context, attrs, 0, R.styleable.RideRequestButton,
+                        R.styleable.RideRequestButton_ub__style)
+                : UberStyle.DEFAULT;
+        style = CompactButtonStyle.get(context, uberStyle);
+        badge = style.newBadge(getResources());
+        badge.setBounds(0, 0, badge.getIntrinsicWidth(), badge.getIntrinsicHeight());
+        labelLayout = style.defaultLabelLayout;
+
+        setBackgroundResource(style.backgroundResource);
+        setPadding(style.padding, 0, style.padding, 0);
+        setMinimumHeight(style.minHeight);
+        setClickable(true);
+        setContentDescription(style.defaultLabel);
+        if (!isInEditMode()) {
+            // Reads the installed Uber apps in the background, before the first click looks them up.
+            InstalledAppsSnapshot.getInstance(context);
+        }
+        setOnClickListener(new OnClickListener() {
+            @Override
+            public void onClick(View view) {
+                requestRide();
+            }
+        });
+    }
+
+    /**
+     * Sets the {@link RideParameters} that will be used to request a ride when the button is clicked.
+     *
+     * @return this instance of {@link CompactRideRequestButton}
+     */
+    public CompactRideRequestButton setRideParameters(@NonNull RideParameters rideParameters) {
+        this.rideParameters = rideParameters;
+        return this;
+    }
+
+    /**
+     * Sets the {@link Deeplink.Fallback} to be used when the Uber app isn't installed
+     *
+     * @return this instance of {@link CompactRideRequestButton}
+     */
+    public CompactRideRequestButton setDeeplinkFallback(@NonNull Deeplink.Fallback fallback) {
+        this.deeplinkFallback = fallback;
+        return this;
+    }
+
+    /**
+     * Set {@link RideRequestButtonCallback}. This is optional but it is recommended to supply one
+     * for error handling.
+     *
+     * @return this instance of {@link CompactRideRequestButton}
+     */
+    public CompactRideRequestButton setCallback(@NonNull RideRequestButtonCallback callback) {
+        this.callback = callback;
+        return this;
+    }
+
+    /**
+     * Set {@link Session}
+     *
+     * @param session to be used for request signing
+     * @return this instance of {@link CompactRideRequestButton}
+     */
+    public CompactRideRequestButton setSession(@NonNull Session session) {
+        this.session = session;
+        return this;
+    }
+
+    /**
+     * Retrieve estimates from the server and updates the button accordingly. Requires {@link #setSession(Session)}
+     * and {@link #setRideParameters(RideParameters)} with a pickup location.
+     */
+    public void loadRideInformation() {
+        checkNotNull(session, "Must set session using setSession.");
+
+        rideInformationRequested = true;
+        getOrCreateController().loadRideInformation(rideParameters);
+    }
+
+    /**
+     * Sets the {@link RideParameters} and loads their estimates, cancelling work still pending for the previous ones.
+     *
+     * @param rideParameters the parameters of the bound row
+     */
+    public void bind(@NonNull RideParameters rideParameters) {
+        setRideParameters(rideParameters);
+        loadRideInformation();
+    }
+
+    /**
+     * Cancels pending work and returns the controller of this button to the shared pool.
+     */
+    public void unbind() {
+        rideInformationRequested = false;
+        recycleController();
+        showDefaultView();
+    }
+
+    @Override
+    public void showDefaultView() {
+        cancelPendingEstimates();
+        setContent(style.defaultLabelLayout, null, null);
+    }
+
+    @Override
+    public void showEstimate(@NonNull TimeEstimate timeEstimate) {
+        showEstimates(getSeconds(timeEstimate), false, null, null, false, null);
+    }
+
+    @Override
+    public void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull PriceEstimate priceEstimate) {
+        showEstimates(getSeconds(timeEstimate), true, priceEstimate.getEstimate(), priceEstimate.getDisplayName(),
+                false, null);
+    }
+
+    @Override
+    public void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull Runnable onRendered) {
+        showEstimates(getSeconds(timeEstimate), false, null, null, false, onRendered);
+    }
+
+    @Override
+    public void showEstimate(
+            @NonNull TimeEstimate timeEstimate,
+            @NonNull PriceEstimate priceEstimate,
+            @NonNull Runnable onRendered) {
+        showEstimates(getSeconds(timeEstimate), true, priceEstimate.getEstimate(), priceEstimate.getDisplayName(),
+                false, onRendered);
+    }
+
+    @Override
+    public void showStaleEstimate(@NonNull EstimateSnapshot snapshot) {
+        showEstimates(snapshot.getTimeEstimateSeconds(), snapshot.hasPrice(), snapshot.getPriceEstimate(),
+                snapshot.getPriceDisplayName(), true, null);
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        final int estimatesWidth = Math.max(getWidth(timeLayout), getWidth(priceLayout));
+        final int contentWidth = badge.getIntrinsicWidth() + style.badgePadding + getWidth(labelLayout)
+                + (estimatesWidth > 0 ? style.padding + estimatesWidth : 0);
+        final int contentHeight = Math.max(Math.max(badge.getIntrinsicHeight(), labelLayout.getHeight()),
+                getHeight(timeLayout) + getHeight(priceLayout)) + 2 * style.badgePadding;
+
+        setMeasuredDimension(
+                resolveSize(Math.max(getSuggestedMinimumWidth(),
+                        contentWidth + getPaddingLeft() + getPaddingRight()), widthMeasureSpec),
+                resolveSize(Math.max(getSuggestedMinimumHeight(),
+                        contentHeight + getPaddingTop() + getPaddingBottom()), heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        super.onLayout(changed, left, top, right, bottom);
+        fitEstimates();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        final int top = getPaddingTop();
+        final int height = getHeight() - top - getPaddingBottom();
+        int left = getPaddingLeft();
+
+        canvas.save();
+        canvas.translate(left, top + (height - badge.getIntrinsicHeight()) / 2f);
+        badge.draw(canvas);
+        canvas.restore();
+        left += badge.getIntrinsicWidth() + style.badgePadding;
+
+        drawLayout(canvas, labelLayout, left, top + (height - labelLayout.getHeight()) / 2f);
+
+        final int right = getWidth() - getPaddingRight();
+        float estimatesTop = top + (height - getHeight(fittedTimeLayout) - getHeight(fittedPriceLayout)) / 2f;
+        if (fittedTimeLayout != null) {
+            drawLayout(canvas, fittedTimeLayout, right - getWidth(fittedTimeLayout), estimatesTop);
+            estimatesTop += fittedTimeLayout.getHeight();
+        }
+        if (fittedPriceLayout != null) {
+            drawLayout(canvas, fittedPriceLayout, right - getWidth(fittedPriceLayout), estimatesTop);
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        if (controller == null && rideInformationRequested && session != null) {
+            loadRideInformation();
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        recycleController();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        if (controller != null) {
+            controller.setVisible(visibility == VISIBLE);
+        }
+    }
+
+    @VisibleForTesting
+    void setTextFormatter(@NonNull EstimateTextFormatter textFormatter) {
+        this.textFormatter = textFormatter;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Layout getTimeLayout() {
+        return timeLayout;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Layout getPriceLayout() {
+        return priceLayout;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Layout getFittedTimeLayout() {
+        return fittedTimeLayout;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    Layout getFittedPriceLayout() {
+        return fittedPriceLayout;
+    }
+
+    /**
+     * Formats the estimates and lays them out in the background. The current content stays on screen until then.
+     */
+    private void showEstimates(
+            final long timeSeconds,
+            final boolean hasPrice,
+            @Nullable final String priceEstimate,
+            @Nullable final String priceDisplayName,
+            boolean stale,
+            @Nullable final Runnable onRendered) {
+        cancelPendingEstimates();
+
+        final Resources resources = getResources();
+        final EstimateTextFormatter formatter = textFormatter;
+        // The style's paints belong to the main thread.
+        final TextPaint paint = new TextPaint(stale ? style.staleEstimatePaint : style.estimatePaint);
+        pendingEstimates = formatter.prepare(new EstimateTextFormatter.Preparation<EstimateLayouts>() {
+            @NonNull
+            @Override
+            public EstimateLayouts prepare() {
+                final Layout time =
+                        CompactButtonStyle.createLayout(formatter.formatTime(resources, timeSeconds), paint);
+                final Layout price = hasPrice
+                        ? CompactButtonStyle.createLayout(
+                                formatter.formatPrice(resources, priceEstimate, priceDisplayName), paint)
+                        : null;
+                return new EstimateLayouts(time, price);
+            }
+
+            @Override
+            public void onPrepared(@NonNull EstimateLayouts layouts) {
+                pendingEstimates = null;
+                setContent(style.estimateLabelLayout, layouts.time, layouts.price);
+                if (onRendered != null) {
+                    onRendered.run();
+                }
+            }
+        });
+    }
+
+    private void cancelPendingEstimates() {
+        if (pendingEstimates != null) {
+            pendingEstimates.cancel();
+            pendingEstimates = null;
+        }
+    }
+
+    private void setContent(@NonNull Layout label, @Nullable Layout time, @Nullable Layout price) {
+        final boolean sizeChanged = label.getWidth() != labelLayout.getWidth()
+                || Math.max(getWidth(time), getWidth(price)) != Math.max(getWidth(timeLayout), getWidth(priceLayout))
+                || getHeight(time) + getHeight(price) != getHeight(timeLayout) + getHeight(priceLayout);
+
+        labelLayout = label;
+        timeLayout = time;
+        priceLayout = price;
+        fittedWidth = -1;
+        setContentDescription(TextUtils.join(" ", new Object[] { label.getText(),
+                time != null ? time.getText() : "", price != null ? price.getText() : "" }).trim());
+
+        if (sizeChanged) {
+            requestLayout();
+        } else {
+            fitEstimates();
+        }
+        invalidate();
+    }
+
+    /**
+     * Ellipsizes the estimates to the width left next to the badge and label, so they do not overlap the label when
+     * the button is narrower than its content. Layouts are only rebuilt when they do not fit.
+     */
+    private void fitEstimates() {
+        if (getWidth() == 0) {
+            fittedTimeLayout = timeLayout;
+            fittedPriceLayout = priceLayout;
+            fittedWidth = -1;
+            return;
+        }
+        final int availableWidth = Math.max(0, getWidth() - getPaddingLeft() - getPaddingRight()
+                - badge.getIntrinsicWidth() - style.badgePadding - labelLayout.getWidth() - style.padding);
+        if (availableWidth == fittedWidth) {
+            return;
+        }
+        fittedWidth = availableWidth;
+        fittedTimeLayout = fitLayout(timeLayout, availableWidth);
+        fittedPriceLayout = fitLayout(priceLayout, availableWidth);
+    }
+
+    @Nullable
+    private static Layout fitLayout(@Nullable Layout layout, int availableWidth) {
+        if (layout == null || layout.getWidth() <= availableWidth) {
+            return layout;
+        }
+        if (availableWidth <= 0) {
+            return null;
+        }
+        return CompactButtonStyle.createLayout(layout.getText(), layout.getPaint(), availableWidth);
+    }
+
+    private static long getSeconds(@NonNull TimeEstimate timeEstimate) {
+        return timeEstimate.getEstimate() != null ? timeEstimate.getEstimate().longValue() : 0;
+    }
+
+    private static void drawLayout(@NonNull Canvas canvas, @NonNull Layout layout, float left, float top) {
+        canvas.save();
+        canvas.translate(left, top);
+        layout.draw(canvas);
+        canvas.restore();
+    }
+
+    private static int getWidth(@Nullable Layout layout) {
+        return layout != null ? layout.getWidth() : 0;
+    }
+
+    private static int getHeight(@Nullable Layout layout) {
+        return layout != null ? layout.getHeight() : 0;
+    }
+
+    private void requestRide() {
+        rideParameters.setUserAgent(USER_AGENT_BUTTON);
+
+        final SessionConfiguration config = session != null
+                ? session.getAuthenticator().getSessionConfiguration()
+                : UberSdk.getDefaultSessionConfiguration();
+
+        new RideRequestDeeplink.Builder(getContext())
+                .setSessionConfiguration(config)
+                .setFallback(deeplinkFallback)
+                .setRideParameters(rideParameters)
+                .build()
+                .execute();
+    }
+
+    @NonNull
+    private RideRequestButtonController getOrCreateController() {
+        if (controller == null) {
+            controller = RideRequestButtonControllerPool.getInstance().obtain(this, session, callback);
+            controller.setVisible(getWindowVisibility() == VISIBLE);
+        }
+        return controller;
+    }
+
+    private void recycleController() {
+        if (controller != null) {
+            RideRequestButtonControllerPool.getInstance().recycle(controller);
+            controller = null;
+        }
+    }
+
+    private static final class EstimateLayouts {
+
+        @NonNull
+        final Layout time;
+        @Nullable
+        final Layout price;
+
+        EstimateLayouts(@NonNull Layout time, @Nullable Layout price) {
+            this.time = time;
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+
+/**
+ * The time and, when a dropoff was supplied, price estimate loaded for a {@link RideParameters}.
+ */
+public final class RideEstimate {
+
+    @NonNull
+    private final RideParameters rideParameters;
+    @NonNull
+    private final TimeEstimate timeEstimate;
+    @Nullable
+    private final PriceEstimate priceEstimate;
+
+    public RideEstimate(
+            @NonNull RideParameters rideParameters,
+            @NonNull TimeEstimate timeEstimate,
+            @Nullable PriceEstimate priceEstimate) {
+        this.rideParameters = rideParameters;
+        this.timeEstimate = timeEstimate;
+        this.priceEstimate = priceEstimate;
+    }
+
+    /**
+     * @return the {@link RideParameters} the estimate was loaded for.
+     */
+    @NonNull
+    public RideParameters getRideParameters() {
+        return rideParameters;
+    }
+
+    /**
+     * @return the pickup time estimate.
+     */
+    @NonNull
+    public TimeEstimate getTimeEstimate() {
+        return timeEstimate;
+    }
+
+    /**
+     * @return the price estimate, or null if no dropoff location was specified.
+     */
+    @Nullable
+    public PriceEstimate getPriceEstimate() {
+        return priceEstimate;
+    }
+}
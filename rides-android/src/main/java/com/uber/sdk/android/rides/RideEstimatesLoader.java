@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.android.rides.internal.EstimateRequestCoordinator;
+import com.uber.sdk.android.rides.internal.EstimatesBatch;
+import com.uber.sdk.android.rides.internal.ProductMatrixLoad;
+import com.uber.sdk.android.rides.internal.RidesServiceRegistry;
+import com.uber.sdk.core.client.Session;
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import java.util.List;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Loads estimates for a list of {@link RideParameters}, for example one per venue of a list screen.
+ * <p>
+ * Items sharing a pickup point share a single time estimate request, and items sharing both pickup and dropoff share
+ * a single price estimate request. At most {@link #setMaxConcurrentRequests(int)} requests are in flight at a time and
+ * results are delivered per item as soon as they complete.
+ * <p>
+ * {@link #loadProducts(RideParameters, SortOrder, ProductsCallback)} instead returns every product available at one
+ * location from a single pair of requests, for example to draw a product picker.
+ */
+public class RideEstimatesLoader {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    @NonNull
+    private final RidesService ridesService;
+    @NonNull
+    private final EstimateRequestCoordinator requestCoordinator;
+    @Nullable
+    private Session session;
+    private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+    /**
+     * @param session to be used for request signing. Loaders and buttons using the same session share one HTTP stack
+     * until {@link #release()} is called.
+     */
+    public RideEstimatesLoader(@NonNull Session session) {
+        this(RidesServiceRegistry.getInstance().acquire(session), EstimateRequestCoordinator.getInstance());
+        this.session = session;
+    }
+
+    @VisibleForTesting
+    RideEstimatesLoader(@NonNull RidesService ridesService, @NonNull EstimateRequestCoordinator requestCoordinator) {
+        this.ridesService = ridesService;
+        this.requestCoordinator = requestCoordinator;
+    }
+
+    /**
+     * Sets the maximum number of estimate requests a single batch keeps in flight.
+     *
+     * @return this instance of {@link RideEstimatesLoader}
+     */
+    public RideEstimatesLoader setMaxConcurrentRequests(int maxConcurrentRequests) {
+        checkState(maxConcurrentRequests > 0, "Max concurrent requests must be positive.");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    /**
+     * Loads estimates for every item of {@code rideParametersList}. Each item needs a pickup location; a dropoff
+     * location is needed for its price estimate.
+     *
+     * @param rideParametersList the items to load estimates for.
+     * @param callback notified per item, using the item position in {@code rideParametersList}.
+     * @return a {@link Batch} which can be cancelled when the results are no longer needed.
+     */
+    @NonNull
+    public Batch load(@NonNull List<RideParameters> rideParametersList, @NonNull Callback callback) {
+        EstimatesBatch batch = new EstimatesBatch(ridesService, requestCoordinator, maxConcurrentRequests,
+                rideParametersList, callback);
+        batch.start();
+        return batch;
+    }
+
+    /**
+     * Loads the estimates of every product available at the pickup location of {@code rideParameters}, ignoring its
+     * product id. Price estimates are included when a dropoff location is set.
+     *
+     * @param rideParameters the pickup and optional dropoff location.
+     * @param sortOrder the order of the delivered products.
+     * @param callback notified once with the full product list, or with the first error.
+     * @return a {@link Batch} which can be cancelled when the results are no longer needed.
+     */
+    @NonNull
+    public Batch loadProducts(
+            @NonNull RideParameters rideParameters,
+            @NonNull SortOrder sortOrder,
+            @NonNull ProductsCallback callback) {
+        ProductMatrixLoad load = new ProductMatrixLoad(ridesService, requestCoordinator, rideParameters, sortOrder,
+                callback);
+        load.start();
+        return load;
+    }
+
+    @NonNull
+    RidesService getRidesService() {
+        return ridesService;
+    }
+
+    @NonNull
+    EstimateRequestCoordinator getRequestCoordinator() {
+        return requestCoordinator;
+    }
+
+    /**
+     * Releases the HTTP stack shared with other consumers of the same {@link Session}. Batches already started are
+     * unaffected; this loader should not be used afterwards.
+     */
+    public void release() {
+        if (session != null) {
+            RidesServiceRegistry.getInstance().release(session);
+            session = null;
+        }
+    }
+
+    /**
+     * A batch of estimate requests started by {@link #load(List, Callback)}.
+     */
+    public interface Batch {
+
+        /**
+         * Stops delivery of any remaining result and cancels requests no other consumer is waiting on.
+         */
+        void cancel();
+    }
+
+    /**
+     * Receives the results of a {@link Batch}.
+     */
+    public interface Callback {
+
+        /**
+         * Estimates for the item at {@code position} have been loaded.
+         */
+        void onEstimateLoaded(int position, @NonNull RideEstimate rideEstimate);
+
+        /**
+         * An API error has occurred for the item at {@code position}.
+         */
+        void onError(int position, @NonNull ApiError apiError);
+
+        /**
+         * An unexpected error has occurred for the item at {@code position}, very likely it is
+         * {@link java.io.IOException}.
+         */
+        void onError(int position, @NonNull Throwable throwable);
+
+        /**
+         * Every item of the batch has been delivered.
+         *
+         * @param elapsedMillis time between {@link #load(List, Callback)} and the last item being delivered.
+         */
+        void onBatchComplete(long elapsedMillis);
+    }
+
+    /**
+     * Order of the products delivered by {@link #loadProducts(RideParameters, SortOrder, ProductsCallback)}.
+     */
+    public enum SortOrder {
+        /**
+         * Shortest pickup time first.
+         */
+        ETA,
+        /**
+         * Lowest price estimate first.
+         */
+        LOW_PRICE
+    }
+
+    /**
+     * Receives the result of {@link #loadProducts(RideParameters, SortOrder, ProductsCallback)}.
+     */
+    public interface ProductsCallback {
+
+        /**
+         * The estimates of every product at the location, joined by product id and sorted.
+         */
+        void onProductsLoaded(@NonNull List<ProductEstimate> productEstimates);
+
+        /**
+         * An API error has occurred.
+         */
+        void onError(@NonNull ApiError apiError);
+
+        /**
+         * An unexpected error has occurred, very likely it is {@link java.io.IOException}.
+         */
+        void onError(@NonNull Throwable throwable);
+    }
+}
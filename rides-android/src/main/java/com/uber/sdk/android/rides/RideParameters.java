@@ -27,10 +27,12 @@ import android.os.Parcelable;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.uber.sdk.rides.deeplink.RideLink;
+
 /**
  * Represents the parameters for an Uber ride.
  */
-public class RideParameters implements Parcelable {
+public class RideParameters implements Parcelable, RideLink {
 
     private final boolean isPickupMyLocation;
     @Nullable private final String productId;
@@ -41,7 +41,12 @@ import com.uber.sdk.android.core.Deeplink;
 import com.uber.sdk.android.core.UberButton;
 import com.uber.sdk.android.core.UberSdk;
 import com.uber.sdk.android.core.UberStyle;
+import com.uber.sdk.android.core.utils.InstalledAppsSnapshot;
+import com.uber.sdk.android.rides.internal.EstimateSnapshot;
+import com.uber.sdk.android.rides.internal.EstimateSnapshotStore;
+import com.uber.sdk.android.rides.internal.EstimateTextFormatter;
 import com.uber.sdk.android.rides.internal.RideRequestButtonController;
+import com.uber.sdk.android.rides.internal.RideRequestButtonControllerPool;
 import com.uber.sdk.android.rides.internal.RideRequestButtonView;
 import com.uber.sdk.core.client.Session;
 import com.uber.sdk.core.client.SessionConfiguration;
@@ -66,6 +71,11 @@ public class RideRequestButton extends FrameLayout implements RideRequestButtonV
             com.uber.sdk.android.core.R.style.UberButton_White
     };
 
+    /**
+     * Alpha applied to last-known estimates shown while fresh ones load.
+     */
+    private static final float STALE_ESTIMATE_ALPHA = 0.5f;
+
     private static final String USER_AGENT_BUTTON = String.format("rides-android-v%s-button",
             BuildConfig.VERSION_NAME);
 
@@ -81,6 +91,18 @@ public class RideRequestButton extends FrameLayout implements RideRequestButtonV
     private Session session;
     private RideRequestButtonCallback callback;
     private Deeplink.Fallback deeplinkFallback;
+    private boolean progressiveLoading;
+    private long debounceQuietPeriodMillis;
+    private long debounceMaxWaitMillis;
+    private float minReloadDistanceMeters;
+    private long autoRefreshIntervalMillis;
+    private boolean rideInformationRequested;
+    private boolean warmStartEnabled;
+    private RideRequestButtonTimingListener timingListener;
+    @Nullable
+    private EstimateTextFormatter.Request pendingTimeText;
+    @Nullable
+    private EstimateTextFormatter.Request pendingPriceText;
 
     public RideRequestButton(Context context) {
         this(context, null);
@@ -120,6 +142,10 @@ public class RideRequestButton extends FrameLayout implements RideRequestButtonV
 
         showDefaultView();
         deeplinkFallback = Deeplink.Fallback.APP_INSTALL;
+        if (!isInEditMode()) {
+            // Reads the installed Uber apps in the background, before the first click looks them up.
+            InstalledAppsSnapshot.getInstance(context);
+        }
         setOnClickListener(new OnClickListener() {
             @Override
             public void onClick(View view) {
@@ -190,6 +216,102 @@ public class RideRequestButton extends FrameLayout implements RideRequestButtonV
         return this;
     }
 
+    /**
+     * Sets whether the Time Estimate is shown as soon as it is loaded, then upgraded to Time and Price once the Price
+     * Estimate arrives. Disabled by default, in which case both are shown together. A
+     * {@link RideRequestButtonProgressCallback} passed to {@link #setCallback(RideRequestButtonCallback)} is notified
+     * of each stage.
+     *
+     * @return this instance of {@link RideRequestButton}
+     */
+    public RideRequestButton setProgressiveLoading(boolean progressiveLoading) {
+        this.progressiveLoading = progressiveLoading;
+        if (controller != null) {
+            controller.setProgressiveLoading(progressiveLoading);
+        }
+        return this;
+    }
+
+    /**
+     * Debounces {@link #loadRideInformation()}, for instance when the pickup follows a draggable map. The latest
+     * {@link RideParameters} are loaded once no newer call arrived for {@code quietPeriod}, and no later than
+     * {@code maxWait} after the first call of a burst. Disabled by default.
+     *
+     * @param quietPeriod time without calls before loading, 0 to disable debouncing.
+     * @param maxWait upper bound on how long a burst of calls can delay loading, 0 for no bound.
+     * @return this instance of {@link RideRequestButton}
+     */
+    public RideRequestButton setLoadDebounce(long quietPeriod, long maxWait, @NonNull TimeUnit unit) {
+        this.debounceQuietPeriodMillis = unit.toMillis(quietPeriod);
+        this.debounceMaxWaitMillis = unit.toMillis(maxWait);
+        if (controller != null) {
+            controller.setLoadDebounce(debounceQuietPeriodMillis, debounceMaxWaitMillis, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Skips {@link #loadRideInformation()} when the pickup and dropoff moved less than {@code minDistanceMeters} since
+     * the last load. Disabled by default.
+     *
+     * @return this instance of {@link RideRequestButton}
+     */
+    public RideRequestButton setMinReloadDistance(float minDistanceMeters) {
+        this.minReloadDistanceMeters = minDistanceMeters;
+        if (controller != null) {
+            controller.setMinReloadDistance(minDistanceMeters);
+        }
+        return this;
+    }
+
+    /**
+     * Refreshes the estimates every {@code interval} once {@link #loadRideInformation()} has been called. Refreshing
+     * pauses while the button is detached or its window is hidden, backs off after errors, and skips the network when
+     * cached estimates are younger than {@code interval}. Disabled by default.
+     *
+     * @param interval time between refreshes, 0 to disable.
+     * @return this instance of {@link RideRequestButton}
+     */
+    public RideRequestButton setAutoRefreshInterval(long interval, @NonNull TimeUnit unit) {
+        this.autoRefreshIntervalMillis = unit.toMillis(interval);
+        if (controller != null) {
+            controller.setAutoRefreshInterval(autoRefreshIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Shows the last-known estimates for the same location, dimmed, while fresh ones load, including right after a
+     * cold start. Loaded estimates are saved to a small file in the app's no-backup directory. Disabled by default.
+     *
+     * @return this instance of {@link RideRequestButton}
+     */
+    public RideRequestButton setWarmStartEnabled(boolean warmStartEnabled) {
+        this.warmStartEnabled = warmStartEnabled;
+        // Obtaining the store starts reading the snapshot file in the background.
+        final EstimateSnapshotStore snapshotStore = warmStartEnabled
+                ? EstimateSnapshotStore.getInstance(getContext())
+                : null;
+        if (controller != null) {
+            controller.setSnapshotStore(snapshotStore);
+        }
+        return this;
+    }
+
+    /**
+     * Set {@link RideRequestButtonTimingListener} to be notified of the timing of each phase of every load.
+     *
+     * @param timingListener to be notified, or null to stop timing loads
+     * @return this instance of {@link RideRequestButton}
+     */
+    public RideRequestButton setTimingListener(@Nullable RideRequestButtonTimingListener timingListener) {
+        this.timingListener = timingListener;
+        if (controller != null) {
+            controller.setTimingListener(timingListener);
+        }
+        return this;
+    }
+
     /**
      * Retrieve estimates from the server and updates the button accordingly. Requires:
      * 1. {@link #setSession(Session)}
@@ -200,9 +322,35 @@ public class RideRequestButton extends FrameLayout implements RideRequestButtonV
 
         checkNotNull(session, "ServerToken is empty. Have you called setServerToken?");
 
+        rideInformationRequested = true;
         getOrCreateController().loadRideInformation(rideParameters);
     }
 
+    /**
+     * Sets the {@link RideParameters} and loads their estimates, cancelling work still pending for the previous ones.
+     * Meant for {@code RecyclerView.Adapter#onBindViewHolder}; estimates still cached, for example when a row scrolls
+     * back into view, are shown without a request.
+     *
+     * @param rideParameters the parameters of the bound row
+     */
+    public void bind(@NonNull RideParameters rideParameters) {
+        setRideParameters(rideParameters);
+        loadRideInformation();
+    }
+
+    /**
+     * Cancels pending work and returns the controller of this button to a shared pool, to be reused by the next
+     * button bound to the same {@link Session}. Meant for {@code RecyclerView.Adapter#onViewRecycled}.
+     */
+    public void unbind() {
+        rideInformationRequested = false;
+        if (controller != null) {
+            RideRequestButtonControllerPool.getInstance().recycle(controller);
+            controller = null;
+        }
+        showDefaultView();
+    }
+
     /**
      * Set {@link Session}
      *
@@ -335,44 +483,175 @@ public class RideRequestButton extends FrameLayout implements RideRequestButtonV
         if (controller == null) {
             checkNotNull(session, "Must set session using setSession.");
 
-            controller = new RideRequestButtonController(this, session, callback);
+            controller = RideRequestButtonControllerPool.getInstance().obtain(this, session, callback);
+            configureController(controller);
         }
         return controller;
     }
 
+    /**
+     * Applies the settings of this button to a controller newly obtained from the pool.
+     */
+    private void configureController(@NonNull RideRequestButtonController controller) {
+        controller.setProgressiveLoading(progressiveLoading);
+        controller.setTimingListener(timingListener);
+        if (debounceQuietPeriodMillis > 0) {
+            controller.setLoadDebounce(debounceQuietPeriodMillis, debounceMaxWaitMillis, TimeUnit.MILLISECONDS);
+        }
+        if (minReloadDistanceMeters > 0) {
+            controller.setMinReloadDistance(minReloadDistanceMeters);
+        }
+        if (warmStartEnabled) {
+            controller.setSnapshotStore(EstimateSnapshotStore.getInstance(getContext()));
+        }
+        if (autoRefreshIntervalMillis > 0) {
+            controller.setAutoRefreshInterval(autoRefreshIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        // Rows bound before being attached, such as RecyclerView prefetches, load after the visible ones.
+        controller.setVisible(getWindowVisibility() == VISIBLE);
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        if (controller == null && rideInformationRequested && session != null) {
+            // Re-attached after a detach recycled the controller: reload and resume refreshing. Estimates still
+            // cached are shown without a request.
+            loadRideInformation();
+        }
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         if (controller != null) {
-            controller.destroy();
+            // Keep the controller for the next button bound to the same session, as rows recycle quickly.
+            RideRequestButtonControllerPool.getInstance().recycle(controller);
+            controller = null;
+        }
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        if (controller != null) {
+            controller.setVisible(visibility == VISIBLE);
         }
     }
 
     @Override
     public void showDefaultView() {
+        cancelPendingText();
         requestButton.setText(R.string.ub__ride_with_uber);
         priceEstimateView.setText("");
         priceEstimateView.setVisibility(GONE);
+        priceEstimateView.setAlpha(1f);
 
         timeEstimateView.setText("");
         timeEstimateView.setVisibility(GONE);
+        timeEstimateView.setAlpha(1f);
     }
 
     @Override
     public void showEstimate(@NonNull TimeEstimate timeEstimate) {
-        requestButton.setText(R.string.ub__get_ride);
-
-        timeEstimateView.setText(getResources().getString(R.string.ub__time_estimate,
-                TimeUnit.SECONDS.toMinutes(timeEstimate.getEstimate())));
-        timeEstimateView.setVisibility(VISIBLE);
+        showTimeEstimate(timeEstimate.getEstimate(), false, null);
     }
 
     @Override
     public void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull PriceEstimate priceEstimate) {
-        showEstimate(timeEstimate);
+        showTimeEstimate(timeEstimate.getEstimate(), false, null);
+        showPriceEstimate(priceEstimate.getEstimate(), priceEstimate.getDisplayName(), false, null);
+    }
+
+    @Override
+    public void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull Runnable onRendered) {
+        showTimeEstimate(timeEstimate.getEstimate(), false, onRendered);
+    }
 
-        priceEstimateView.setText(getResources().getString(R.string.ub__price_estimate,
-                priceEstimate.getEstimate(), priceEstimate.getDisplayName()));
-        priceEstimateView.setVisibility(VISIBLE);
+    @Override
+    public void showEstimate(
+            @NonNull TimeEstimate timeEstimate,
+            @NonNull PriceEstimate priceEstimate,
+            @NonNull final Runnable onRendered) {
+        final Runnable onBothApplied = new Runnable() {
+            private int remaining = 2;
+
+            @Override
+            public void run() {
+                if (--remaining == 0) {
+                    onRendered.run();
+                }
+            }
+        };
+        showTimeEstimate(timeEstimate.getEstimate(), false, onBothApplied);
+        showPriceEstimate(priceEstimate.getEstimate(), priceEstimate.getDisplayName(), false, onBothApplied);
+    }
+
+    @Override
+    public void showStaleEstimate(@NonNull EstimateSnapshot snapshot) {
+        showTimeEstimate(snapshot.getTimeEstimateSeconds(), true, null);
+        if (snapshot.hasPrice()) {
+            showPriceEstimate(snapshot.getPriceEstimate(), snapshot.getPriceDisplayName(), true, null);
+        } else {
+            if (pendingPriceText != null) {
+                pendingPriceText.cancel();
+                pendingPriceText = null;
+            }
+            priceEstimateView.setText("");
+            priceEstimateView.setVisibility(GONE);
+        }
+    }
+
+    private void showTimeEstimate(long seconds, boolean stale, @Nullable Runnable onApplied) {
+        requestButton.setText(R.string.ub__get_ride);
+
+        // Formatting and text layout happen in the background; the view keeps its current text and visibility until
+        // then, so it never shows up empty.
+        if (pendingTimeText != null) {
+            pendingTimeText.cancel();
+        }
+        pendingTimeText = EstimateTextFormatter.getInstance().setTimeText(timeEstimateView, seconds,
+                createOnTextApplied(timeEstimateView, stale, onApplied));
+    }
+
+    private void showPriceEstimate(
+            @Nullable String estimate,
+            @Nullable String displayName,
+            boolean stale,
+            @Nullable Runnable onApplied) {
+        if (pendingPriceText != null) {
+            pendingPriceText.cancel();
+        }
+        pendingPriceText = EstimateTextFormatter.getInstance().setPriceText(priceEstimateView, estimate, displayName,
+                createOnTextApplied(priceEstimateView, stale, onApplied));
+    }
+
+    @NonNull
+    private static Runnable createOnTextApplied(
+            @NonNull final TextView estimateView,
+            boolean stale,
+            @Nullable final Runnable onApplied) {
+        final float alpha = stale ? STALE_ESTIMATE_ALPHA : 1f;
+        return new Runnable() {
+            @Override
+            public void run() {
+                estimateView.setVisibility(VISIBLE);
+                estimateView.setAlpha(alpha);
+                if (onApplied != null) {
+                    onApplied.run();
+                }
+            }
+        };
+    }
+
+    private void cancelPendingText() {
+        if (pendingTimeText != null) {
+            pendingTimeText.cancel();
+            pendingTimeText = null;
+        }
+        if (pendingPriceText != null) {
+            pendingPriceText.cancel();
+            pendingPriceText = null;
+        }
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receives per-phase timings of each {@link RideRequestButton} load, e.g. to feed latency dashboards. Every event of
+ * a load carries the same {@code loadId}; elapsed times are measured from the start of that load.
+ */
+public interface RideRequestButtonTimingListener {
+
+    /**
+     * A load has started for {@code rideParameters}.
+     */
+    void onLoadStarted(@NonNull String loadId, @NonNull RideParameters rideParameters);
+
+    /**
+     * The Time Estimate response has been received and parsed.
+     *
+     * @param source whether the response was served from memory, joined a request already in flight or was
+     * requested for this load.
+     */
+    void onTimeEstimateResponse(@NonNull String loadId, long elapsedMillis, @NonNull EstimateSource source);
+
+    /**
+     * The Price Estimate response has been received and parsed.
+     *
+     * @param source whether the response was served from memory, joined a request already in flight or was
+     * requested for this load.
+     */
+    void onPriceEstimateResponse(@NonNull String loadId, long elapsedMillis, @NonNull EstimateSource source);
+
+    /**
+     * Estimates have been rendered. Called twice with progressive loading, once for the Time Estimate alone and once
+     * with the Price Estimate.
+     *
+     * @param renderMillis time from the estimates being handed to the button until their text was set on its views,
+     * including formatting and text layout in the background.
+     */
+    void onRendered(@NonNull String loadId, long elapsedMillis, long renderMillis);
+
+    /**
+     * The load failed, the error itself is reported to {@link RideRequestButtonCallback}.
+     */
+    void onLoadFailed(@NonNull String loadId, long elapsedMillis);
+}
@@ -24,8 +24,9 @@ package com.uber.sdk.android.rides;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.browser.customtabs.CustomTabsIntent;
 
@@ -33,6 +34,12 @@ import com.uber.sdk.android.core.Deeplink;
 import com.uber.sdk.android.core.utils.AppProtocol;
 import com.uber.sdk.android.core.utils.CustomTabsHelper;
 import com.uber.sdk.core.client.SessionConfiguration;
+import com.uber.sdk.rides.deeplink.DeeplinkTarget;
+import com.uber.sdk.rides.deeplink.RideDeeplinkWriter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import static com.uber.sdk.android.core.SupportedAppType.UBER;
 import static com.uber.sdk.android.core.utils.Preconditions.checkNotNull;
@@ -40,14 +47,19 @@ import static com.uber.sdk.android.core.utils.Preconditions.checkNotNull;
 
 /**
  * A deeplink for requesting rides in the Uber application.
+ * <p>
+ * Building checks whether the Uber app is installed to choose the link. To keep that off the main thread, build the
+ * deeplink ahead of the click with {@link Builder#resolve(ResolveCallback)} and {@link #execute()} it when clicked.
  *
  * @see <a href="https://developer.uber.com/v1/deep-linking/">Uber deeplink documentation</a>
  */
 public class RideRequestDeeplink implements Deeplink {
 
-    private static final String USER_AGENT_DEEPLINK = String.format("rides-android-v%s-deeplink",
+    static final String USER_AGENT_DEEPLINK = String.format("rides-android-v%s-deeplink",
             BuildConfig.VERSION_NAME);
 
+    private static Executor resolveExecutor;
+
     @NonNull
     private final Uri uri;
     @NonNull
@@ -88,22 +100,48 @@ public class RideRequestDeeplink implements Deeplink {
         return uri;
     }
 
+    @NonNull
+    private static synchronized Executor getResolveExecutor() {
+        if (resolveExecutor == null) {
+            resolveExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "UberSdk-Deeplink");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return resolveExecutor;
+    }
+
+    /**
+     * Receives the deeplink built by {@link Builder#resolve(ResolveCallback)}.
+     */
+    public interface ResolveCallback {
+
+        /**
+         * The deeplink has been built and can be executed immediately. Called on the main thread.
+         */
+        void onResolved(@NonNull RideRequestDeeplink deeplink);
+    }
+
     /**
      * Builder for {@link RideRequestDeeplink} objects.
      */
     public static class Builder {
 
         public static final String AUTHORITY = "riderequest";
-        public static final String ACTION = "action";
-        public static final String SET_PICKUP = "setPickup";
-        public static final String CLIENT_ID = "client_id";
-        public static final String PRODUCT_ID = "product_id";
-        public static final String MY_LOCATION = "my_location";
-        public static final String LATITUDE = "[latitude]";
-        public static final String LONGITUDE = "[longitude]";
-        public static final String NICKNAME = "[nickname]";
-        public static final String FORMATTED_ADDRESS = "[formatted_address]";
-        public static final String USER_AGENT = "user-agent";
+        public static final String ACTION = RideDeeplinkWriter.ACTION;
+        public static final String SET_PICKUP = RideDeeplinkWriter.SET_PICKUP;
+        public static final String CLIENT_ID = RideDeeplinkWriter.CLIENT_ID;
+        public static final String PRODUCT_ID = RideDeeplinkWriter.PRODUCT_ID;
+        public static final String MY_LOCATION = RideDeeplinkWriter.MY_LOCATION;
+        public static final String LATITUDE = RideDeeplinkWriter.LATITUDE;
+        public static final String LONGITUDE = RideDeeplinkWriter.LONGITUDE;
+        public static final String NICKNAME = RideDeeplinkWriter.NICKNAME;
+        public static final String FORMATTED_ADDRESS = RideDeeplinkWriter.FORMATTED_ADDRESS;
+        public static final String USER_AGENT = RideDeeplinkWriter.USER_AGENT;
 
         private RideParameters rideParameters;
         private SessionConfiguration sessionConfiguration;
@@ -111,6 +149,8 @@ public class RideRequestDeeplink implements Deeplink {
         private final Context context;
         private AppProtocol appProtocol;
         private CustomTabsHelper customTabsHelper;
+        private Executor executor;
+        private Executor callbackExecutor;
 
         /**
          * @param context to execute the deeplink.
@@ -162,6 +202,49 @@ public class RideRequestDeeplink implements Deeplink {
             return this;
         }
 
+        @VisibleForTesting
+        RideRequestDeeplink.Builder setExecutors(@NonNull Executor executor, @NonNull Executor callbackExecutor) {
+            this.executor = executor;
+            this.callbackExecutor = callbackExecutor;
+            return this;
+        }
+
+        /**
+         * Builds an {@link RideRequestDeeplink} object on a background thread, so the installed app lookup does not
+         * block the caller. The builder must not be modified until {@code callback} is called.
+         *
+         * @param callback notified on the main thread with the built deeplink.
+         */
+        public void resolve(@NonNull final ResolveCallback callback) {
+            checkParameters();
+
+            final Executor callbackExecutor;
+            if (this.callbackExecutor != null) {
+                callbackExecutor = this.callbackExecutor;
+            } else {
+                final Handler handler = new Handler(Looper.getMainLooper());
+                callbackExecutor = new Executor() {
+                    @Override
+                    public void execute(@NonNull Runnable runnable) {
+                        handler.post(runnable);
+                    }
+                };
+            }
+
+            (executor != null ? executor : getResolveExecutor()).execute(new Runnable() {
+                @Override
+                public void run() {
+                    final RideRequestDeeplink deeplink = build();
+                    callbackExecutor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            callback.onResolved(deeplink);
+                        }
+                    });
+                }
+            });
+        }
+
         /**
          * Builds an {@link RideRequestDeeplink} object.
          *
@@ -169,9 +252,7 @@ public class RideRequestDeeplink implements Deeplink {
          */
         @NonNull
         public RideRequestDeeplink build() {
-            checkNotNull(rideParameters, "Must supply ride parameters.");
-            checkNotNull(sessionConfiguration, "Must supply a Session Configuration");
-            checkNotNull(sessionConfiguration.getClientId(), "Must supply client Id on Login Configuration");
+            checkParameters();
 
             if (appProtocol == null) {
                 appProtocol = new AppProtocol();
@@ -180,77 +261,25 @@ public class RideRequestDeeplink implements Deeplink {
                 customTabsHelper = new CustomTabsHelper();
             }
 
-            final Uri.Builder builder = getUriBuilder(context, fallback);
+            final RideDeeplinkWriter writer = new RideDeeplinkWriter(getTarget(context, fallback),
+                    sessionConfiguration.getClientId(), USER_AGENT_DEEPLINK);
+            final Uri uri = Uri.parse(writer.toUri(rideParameters, rideParameters.getUserAgent()));
 
-            builder.appendQueryParameter(ACTION, SET_PICKUP);
-            builder.appendQueryParameter(CLIENT_ID, sessionConfiguration.getClientId());
-            if (rideParameters.getProductId() != null) {
-                builder.appendQueryParameter(PRODUCT_ID, rideParameters.getProductId());
-            }
-            if (rideParameters.getPickupLatitude() != null && rideParameters.getPickupLongitude() != null) {
-                addLocation(LocationType.PICKUP, Double.toString(rideParameters.getPickupLatitude()),
-                        Double.toString(rideParameters.getPickupLongitude()), rideParameters.getPickupNickname(),
-                        rideParameters.getPickupAddress(), builder);
-            }
-            if (rideParameters.isPickupMyLocation()) {
-                builder.appendQueryParameter(LocationType.PICKUP.getUriQueryKey(), MY_LOCATION);
-            }
-            if (rideParameters.getDropoffLatitude() != null && rideParameters.getDropoffLongitude() != null) {
-                addLocation(LocationType.DROPOFF, Double.toString(rideParameters.getDropoffLatitude()),
-                        Double.toString(rideParameters.getDropoffLongitude()), rideParameters.getDropoffNickname(),
-                        rideParameters.getDropoffAddress(), builder);
-            }
-
-            String userAgent = rideParameters.getUserAgent();
-            if (userAgent == null) {
-                userAgent = USER_AGENT_DEEPLINK;
-            }
-            builder.appendQueryParameter(USER_AGENT, userAgent);
-
-            return new RideRequestDeeplink(context, builder.build(), appProtocol, customTabsHelper);
+            return new RideRequestDeeplink(context, uri, appProtocol, customTabsHelper);
         }
 
-        private void addLocation(
-                @NonNull LocationType locationType, @NonNull String latitude,
-                @NonNull String longitude, @Nullable String nickname, @Nullable String address, Uri.Builder builder) {
-            String typeQueryKey = locationType.getUriQueryKey();
-            builder.appendQueryParameter(typeQueryKey + LATITUDE, latitude);
-            builder.appendQueryParameter(typeQueryKey + LONGITUDE, longitude);
-            if (nickname != null) {
-                builder.appendQueryParameter(typeQueryKey + NICKNAME, nickname);
-            }
-            if (address != null) {
-                builder.appendQueryParameter(typeQueryKey + FORMATTED_ADDRESS, address);
-            }
+        private void checkParameters() {
+            checkNotNull(rideParameters, "Must supply ride parameters.");
+            checkNotNull(sessionConfiguration, "Must supply a Session Configuration");
+            checkNotNull(sessionConfiguration.getClientId(), "Must supply client Id on Login Configuration");
         }
 
-        Uri.Builder getUriBuilder(@NonNull Context context, @NonNull Deeplink.Fallback
-                fallback) {
-            final Uri.Builder builder;
+        @NonNull
+        DeeplinkTarget getTarget(@NonNull Context context, @NonNull Deeplink.Fallback fallback) {
             if (appProtocol.isInstalled(context, UBER)) {
-                if (appProtocol.isAppLinkSupported()) {
-                    builder = Uri.parse(Deeplink.APP_LINK_URI).buildUpon();
-                } else {
-                    builder = new Uri.Builder()
-                            .scheme(Deeplink.DEEPLINK_SCHEME);
-                }
-            } else {
-                if (fallback == Deeplink.Fallback.MOBILE_WEB) {
-                    builder = Uri.parse(Deeplink.MOBILE_WEB_URI).buildUpon();
-                } else {
-                    builder = Uri.parse(Deeplink.APP_LINK_URI).buildUpon();
-                }
+                return appProtocol.isAppLinkSupported() ? DeeplinkTarget.APP_LINK : DeeplinkTarget.NATIVE;
             }
-            return builder;
-        }
-    }
-
-    private enum LocationType {
-        PICKUP,
-        DROPOFF;
-
-        private String getUriQueryKey() {
-            return name().toLowerCase();
+            return fallback == Deeplink.Fallback.MOBILE_WEB ? DeeplinkTarget.MOBILE_WEB : DeeplinkTarget.APP_LINK;
         }
     }
 }
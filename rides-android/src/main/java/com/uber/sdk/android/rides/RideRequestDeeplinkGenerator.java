@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides;
+
+import android.content.Context;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.android.core.Deeplink;
+import com.uber.sdk.android.core.utils.AppProtocol;
+import com.uber.sdk.android.core.utils.CustomTabsHelper;
+import com.uber.sdk.core.client.SessionConfiguration;
+import com.uber.sdk.rides.deeplink.RideDeeplinkWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkNotNull;
+
+/**
+ * Generates {@link RideRequestDeeplink} URIs in bulk, e.g. for every venue of a feed. The link target is resolved
+ * once when the generator is created, and each link is then written by a {@link RideDeeplinkWriter} into a reused
+ * buffer. Links are identical to those built by {@link RideRequestDeeplink.Builder}.
+ * <p>
+ * Creating a generator checks whether the Uber app is installed, so create it off the main thread or ahead of time.
+ */
+public class RideRequestDeeplinkGenerator {
+
+    @NonNull
+    private final Context context;
+    @NonNull
+    private final AppProtocol appProtocol;
+    @NonNull
+    private final CustomTabsHelper customTabsHelper;
+    @NonNull
+    private final RideDeeplinkWriter writer;
+    @NonNull
+    private final StringBuilder buffer = new StringBuilder(512);
+
+    /**
+     * @param context to execute the deeplinks.
+     * @param sessionConfiguration supplying the client id.
+     * @param fallback to use when the Uber app isn't installed.
+     */
+    public RideRequestDeeplinkGenerator(
+            @NonNull Context context,
+            @NonNull SessionConfiguration sessionConfiguration,
+            @NonNull Deeplink.Fallback fallback) {
+        this(context, sessionConfiguration, fallback, new AppProtocol(), new CustomTabsHelper());
+    }
+
+    @VisibleForTesting
+    RideRequestDeeplinkGenerator(
+            @NonNull Context context,
+            @NonNull SessionConfiguration sessionConfiguration,
+            @NonNull Deeplink.Fallback fallback,
+            @NonNull AppProtocol appProtocol,
+            @NonNull CustomTabsHelper customTabsHelper) {
+        checkNotNull(sessionConfiguration.getClientId(), "Must supply client Id on Login Configuration");
+
+        this.context = context;
+        this.appProtocol = appProtocol;
+        this.customTabsHelper = customTabsHelper;
+        this.writer = new RideDeeplinkWriter(
+                new RideRequestDeeplink.Builder(context)
+                        .setAppProtocol(appProtocol)
+                        .getTarget(context, fallback),
+                sessionConfiguration.getClientId(),
+                RideRequestDeeplink.USER_AGENT_DEEPLINK);
+    }
+
+    /**
+     * @return the deeplink URI for {@code rideParameters}.
+     */
+    @NonNull
+    public synchronized Uri generate(@NonNull RideParameters rideParameters) {
+        buffer.setLength(0);
+        try {
+            writer.write(rideParameters, rideParameters.getUserAgent(), buffer);
+        } catch (IOException e) {
+            // StringBuilder does not throw.
+            throw new AssertionError(e);
+        }
+        return Uri.parse(buffer.toString());
+    }
+
+    /**
+     * @return the deeplink URIs for {@code rideParametersList}, in the same order.
+     */
+    @NonNull
+    public synchronized List<Uri> generate(@NonNull List<RideParameters> rideParametersList) {
+        final List<Uri> uris = new ArrayList<>(rideParametersList.size());
+        for (int i = 0; i < rideParametersList.size(); i++) {
+            uris.add(generate(rideParametersList.get(i)));
+        }
+        return uris;
+    }
+
+    /**
+     * @return an executable deeplink for {@code rideParameters}.
+     */
+    @NonNull
+    public RideRequestDeeplink createDeeplink(@NonNull RideParameters rideParameters) {
+        return new RideRequestDeeplink(context, generate(rideParameters), appProtocol, customTabsHelper);
+    }
+}
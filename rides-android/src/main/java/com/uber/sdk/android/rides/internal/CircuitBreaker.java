@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.error.ClientError;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Stops {@link EstimateRequestCoordinator} from sending estimate requests while the backend is failing. After a
+ * number of consecutive failures the breaker opens and requests fail immediately, so buttons show their default view
+ * without waiting for a timeout. Once the cool-down has passed, a single probe request is let through: its success
+ * closes the breaker, its failure opens it again. Only the probe changes the state of an open or half open breaker,
+ * requests still completing from before it opened are ignored.
+ */
+public final class CircuitBreaker {
+
+    static final int HTTP_SERVICE_UNAVAILABLE = 503;
+
+    /**
+     * State of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Requests are sent.
+         */
+        CLOSED,
+        /**
+         * Requests fail immediately until the cool-down has passed.
+         */
+        OPEN,
+        /**
+         * A single probe request is sent to find out whether the backend has recovered.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Outcome of {@link #allowRequest()}.
+     */
+    enum Permit {
+        /**
+         * The request must not be sent.
+         */
+        REJECTED,
+        /**
+         * The request may be sent.
+         */
+        ALLOWED,
+        /**
+         * The request may be sent as the single probe of the half open breaker. It must not be hedged, and must be
+         * reported through {@link #onAbandoned()} if cancelled.
+         */
+        PROBE
+    }
+
+    /**
+     * Notified when a {@link CircuitBreaker} changes state, on the thread that completed or started the request.
+     */
+    public interface Listener {
+
+        void onStateChanged(@NonNull State previousState, @NonNull State newState);
+    }
+
+    private final int failureThreshold;
+    private final long coolDownMillis;
+    @NonNull
+    private final Clock clock;
+
+    @Nullable
+    private volatile Listener listener;
+    @NonNull
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtMillis;
+    private boolean probeInFlight;
+
+    private CircuitBreaker(int failureThreshold, long coolDownMillis, @NonNull Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.coolDownMillis = coolDownMillis;
+        this.clock = clock;
+    }
+
+    public void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    @NonNull
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return whether a request may be sent. A {@link Permit#PROBE} must be reported through
+     * {@link #onSuccess(Permit)}, {@link #onFailure(Permit)} or {@link #onAbandoned()}.
+     */
+    @NonNull
+    Permit allowRequest() {
+        final State previousState;
+        final State newState;
+        final Permit permit;
+        synchronized (this) {
+            previousState = state;
+            if (state == State.OPEN && clock.elapsedMillis() - openedAtMillis >= coolDownMillis) {
+                state = State.HALF_OPEN;
+            }
+            if (state == State.OPEN || (state == State.HALF_OPEN && probeInFlight)) {
+                permit = Permit.REJECTED;
+            } else if (state == State.HALF_OPEN) {
+                probeInFlight = true;
+                permit = Permit.PROBE;
+            } else {
+                permit = Permit.ALLOWED;
+            }
+            newState = state;
+        }
+        notifyIfChanged(previousState, newState);
+        return permit;
+    }
+
+    /**
+     * Reports a request sent with {@code permit} as succeeded.
+     */
+    void onSuccess(@NonNull Permit permit) {
+        final State previousState;
+        final State newState;
+        synchronized (this) {
+            previousState = state;
+            if (permit == Permit.PROBE) {
+                probeInFlight = false;
+                state = State.CLOSED;
+            }
+            if (state == State.CLOSED) {
+                consecutiveFailures = 0;
+            }
+            newState = state;
+        }
+        notifyIfChanged(previousState, newState);
+    }
+
+    /**
+     * Reports a request sent with {@code permit} as failed or timed out.
+     */
+    void onFailure(@NonNull Permit permit) {
+        final State previousState;
+        final State newState;
+        synchronized (this) {
+            previousState = state;
+            if (permit == Permit.PROBE) {
+                probeInFlight = false;
+                open();
+            } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+                open();
+            }
+            newState = state;
+        }
+        notifyIfChanged(previousState, newState);
+    }
+
+    /**
+     * The {@link Permit#PROBE} request was cancelled before completing, another probe may be sent.
+     */
+    synchronized void onAbandoned() {
+        probeInFlight = false;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtMillis = clock.elapsedMillis();
+    }
+
+    /**
+     * @return the error delivered in place of a request rejected while open.
+     */
+    @NonNull
+    static ApiError createOpenCircuitError() {
+        return new ApiError(null, Arrays.asList(new ClientError(null, HTTP_SERVICE_UNAVAILABLE,
+                "Estimates are temporarily unavailable.")));
+    }
+
+    private void notifyIfChanged(@NonNull State previousState, @NonNull State newState) {
+        final Listener listener = this.listener;
+        if (listener != null && newState != previousState) {
+            listener.onStateChanged(previousState, newState);
+        }
+    }
+
+    /**
+     * Builder for {@link CircuitBreaker}.
+     */
+    public static class Builder {
+
+        private int failureThreshold = 5;
+        private long coolDownMillis = TimeUnit.SECONDS.toMillis(30);
+        @NonNull
+        private Clock clock = Clock.SYSTEM;
+
+        /**
+         * Opens the breaker after {@code failureThreshold} consecutive failed or timed out requests. Defaults to 5.
+         *
+         * @return this instance of {@link Builder}
+         */
+        public Builder setFailureThreshold(int failureThreshold) {
+            checkState(failureThreshold > 0, "Failure threshold must be positive.");
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Keeps the breaker open for {@code coolDown} before sending a probe request. Defaults to 30 seconds.
+         *
+         * @return this instance of {@link Builder}
+         */
+        public Builder setCoolDown(long coolDown, @NonNull TimeUnit unit) {
+            checkState(coolDown >= 0, "Cool-down must not be negative.");
+            this.coolDownMillis = unit.toMillis(coolDown);
+            return this;
+        }
+
+        @VisibleForTesting
+        Builder setClock(@NonNull Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        @NonNull
+        public CircuitBreaker build() {
+            return new CircuitBreaker(failureThreshold, coolDownMillis, clock);
+        }
+    }
+}
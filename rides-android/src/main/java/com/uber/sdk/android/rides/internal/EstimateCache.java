@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Process-wide, TTL-bounded LRU cache of {@link TimeEstimatesResponse} and {@link PriceEstimatesResponse} keyed by
+ * the pickup and dropoff coordinates of the request. Since a response holds every product for a location, changing
+ * {@link com.uber.sdk.android.rides.RideParameters#getProductId()} or re-binding a button is served from memory.
+ * <p>
+ * With {@link #setSpatialReuse(float, long, TimeUnit)}, a miss may also be served by the nearest fresh response
+ * whose coordinates are all within a radius of the requested ones, found through a grid index over the cached keys.
+ */
+public final class EstimateCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+    public static final long DEFAULT_TIME_TO_LIVE_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    private static final EstimateCache INSTANCE = new EstimateCache(Clock.SYSTEM);
+
+    private static final double METERS_PER_DEGREE = 111320;
+    private static final int MAX_LONGITUDE_CELL_SPAN = 8;
+
+    @NonNull
+    private final Clock clock;
+    @NonNull
+    private final Map<Long, Map<EstimateKey, Entry<TimeEstimatesResponse, TimeEstimate>>> timeEstimatesGrid =
+            new HashMap<>();
+    @NonNull
+    private final Map<Long, Map<EstimateKey, Entry<PriceEstimatesResponse, PriceEstimate>>> priceEstimatesGrid =
+            new HashMap<>();
+    @NonNull
+    private final Map<EstimateKey, Entry<TimeEstimatesResponse, TimeEstimate>> timeEstimates =
+            new LruMap<>(timeEstimatesGrid);
+    @NonNull
+    private final Map<EstimateKey, Entry<PriceEstimatesResponse, PriceEstimate>> priceEstimates =
+            new LruMap<>(priceEstimatesGrid);
+
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private long timeToLiveMillis = DEFAULT_TIME_TO_LIVE_MILLIS;
+    private float reuseRadiusMeters;
+    private long reuseMaxAgeMillis;
+    private double gridCellDegrees;
+    private long hitCount;
+    private long missCount;
+    private long nearbyHitCount;
+
+    @VisibleForTesting
+    EstimateCache(@NonNull Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return the cache shared by every {@link RideRequestButtonController} in the process.
+     */
+    @NonNull
+    public static EstimateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets the maximum number of responses kept for each estimate type. Least recently used entries are evicted
+     * first. Setting 0 disables caching.
+     */
+    public synchronized void setMaxEntries(int maxEntries) {
+        checkState(maxEntries >= 0, "Max entries must not be negative.");
+        this.maxEntries = maxEntries;
+        trimToSize(timeEstimates, timeEstimatesGrid);
+        trimToSize(priceEstimates, priceEstimatesGrid);
+    }
+
+    /**
+     * Sets how long a response is served from memory after it was received.
+     */
+    public synchronized void setTimeToLive(long duration, @NonNull TimeUnit unit) {
+        checkState(duration >= 0, "Time to live must not be negative.");
+        this.timeToLiveMillis = unit.toMillis(duration);
+    }
+
+    /**
+     * Serves a lookup missing an exact match with the nearest response whose pickup, and dropoff for price
+     * estimates, are within {@code radiusMeters} of the requested ones and which was received at most
+     * {@code maxAge} ago. Larger radii save more requests at the cost of less accurate estimates. Setting a radius of
+     * 0 disables spatial reuse, the default.
+     */
+    public synchronized void setSpatialReuse(float radiusMeters, long maxAge, @NonNull TimeUnit unit) {
+        checkState(radiusMeters >= 0, "Radius must not be negative.");
+        checkState(maxAge >= 0, "Max age must not be negative.");
+        this.reuseRadiusMeters = radiusMeters;
+        this.reuseMaxAgeMillis = unit.toMillis(maxAge);
+        this.gridCellDegrees = radiusMeters / METERS_PER_DEGREE;
+        rebuildGrid(timeEstimates, timeEstimatesGrid);
+        rebuildGrid(priceEstimates, priceEstimatesGrid);
+    }
+
+    public synchronized float getSpatialReuseRadiusMeters() {
+        return reuseRadiusMeters;
+    }
+
+    public synchronized int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public synchronized long getTimeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    /**
+     * @return number of lookups served from memory since creation or the last {@link #resetStats()}.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of lookups that required a network request since creation or the last {@link #resetStats()}.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of responses currently held, fresh or expired.
+     */
+    public synchronized int size() {
+        return timeEstimates.size() + priceEstimates.size();
+    }
+
+    /**
+     * @return number of lookups, included in {@link #getHitCount()}, served by a nearby response rather than an exact
+     * match since creation or the last {@link #resetStats()}.
+     */
+    public synchronized long getNearbyHitCount() {
+        return nearbyHitCount;
+    }
+
+    public synchronized void resetStats() {
+        hitCount = 0;
+        missCount = 0;
+        nearbyHitCount = 0;
+    }
+
+    /**
+     * Drops every cached response.
+     */
+    public synchronized void clear() {
+        timeEstimates.clear();
+        priceEstimates.clear();
+        timeEstimatesGrid.clear();
+        priceEstimatesGrid.clear();
+    }
+
+    @Nullable
+    synchronized TimeEstimatesResponse getTimeEstimates(@NonNull EstimateKey key) {
+        return get(timeEstimates, timeEstimatesGrid, key);
+    }
+
+    synchronized void putTimeEstimates(@NonNull EstimateKey key, @NonNull TimeEstimatesResponse response) {
+        put(timeEstimates, timeEstimatesGrid, key, response, EstimateSelector.indexTimeEstimates(response));
+    }
+
+    @Nullable
+    synchronized PriceEstimatesResponse getPriceEstimates(@NonNull EstimateKey key) {
+        return get(priceEstimates, priceEstimatesGrid, key);
+    }
+
+    synchronized void putPriceEstimates(@NonNull EstimateKey key, @NonNull PriceEstimatesResponse response) {
+        put(priceEstimates, priceEstimatesGrid, key, response, EstimateSelector.indexPriceEstimates(response));
+    }
+
+    /**
+     * @return the product id index built when {@code response} was cached under {@code key}, or null if
+     * {@code response} is not the one cached there.
+     */
+    @Nullable
+    synchronized Map<String, TimeEstimate> getTimeEstimatesIndex(
+            @NonNull EstimateKey key,
+            @NonNull TimeEstimatesResponse response) {
+        return getIndex(timeEstimates, key, response);
+    }
+
+    /**
+     * @return the product id index built when {@code response} was cached under {@code key}, or null if
+     * {@code response} is not the one cached there.
+     */
+    @Nullable
+    synchronized Map<String, PriceEstimate> getPriceEstimatesIndex(
+            @NonNull EstimateKey key,
+            @NonNull PriceEstimatesResponse response) {
+        return getIndex(priceEstimates, key, response);
+    }
+
+    /**
+     * @return milliseconds since the time estimates for {@code key} were received, or -1 if none are fresh.
+     */
+    synchronized long getTimeEstimatesAgeMillis(@NonNull EstimateKey key) {
+        return getAgeMillis(timeEstimates, key);
+    }
+
+    /**
+     * @return milliseconds since the price estimates for {@code key} were received, or -1 if none are fresh.
+     */
+    synchronized long getPriceEstimatesAgeMillis(@NonNull EstimateKey key) {
+        return getAgeMillis(priceEstimates, key);
+    }
+
+    synchronized void removeTimeEstimates(@NonNull EstimateKey key) {
+        remove(timeEstimates, timeEstimatesGrid, key);
+    }
+
+    synchronized void removePriceEstimates(@NonNull EstimateKey key) {
+        remove(priceEstimates, priceEstimatesGrid, key);
+    }
+
+    @Nullable
+    private <T, E> T get(
+            @NonNull Map<EstimateKey, Entry<T, E>> map,
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid,
+            @NonNull EstimateKey key) {
+        Entry<T, E> entry = map.get(key);
+        if (entry != null && isExpired(entry, timeToLiveMillis)) {
+            remove(map, grid, key);
+            entry = null;
+        }
+
+        if (entry == null && reuseRadiusMeters > 0) {
+            entry = findNearby(map, grid, key);
+            if (entry != null) {
+                nearbyHitCount++;
+            }
+        }
+
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.value;
+    }
+
+    @Nullable
+    private <T, E> Entry<T, E> findNearby(
+            @NonNull Map<EstimateKey, Entry<T, E>> map,
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid,
+            @NonNull EstimateKey key) {
+        final long maxAgeMillis = Math.min(reuseMaxAgeMillis, timeToLiveMillis);
+        final long latitudeCell = getCellIndex(key.pickupLatitude);
+        final long longitudeCell = getCellIndex(key.pickupLongitude);
+        final double latitudeScale = Math.cos(Math.toRadians(key.pickupLatitude));
+        final int longitudeSpan = latitudeScale > 1.0 / MAX_LONGITUDE_CELL_SPAN
+                ? (int) Math.ceil(1 / latitudeScale)
+                : MAX_LONGITUDE_CELL_SPAN;
+
+        EstimateKey nearestKey = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (long latitude = latitudeCell - 1; latitude <= latitudeCell + 1; latitude++) {
+            for (long longitude = longitudeCell - longitudeSpan; longitude <= longitudeCell + longitudeSpan;
+                    longitude++) {
+                final Map<EstimateKey, Entry<T, E>> cellEntries = grid.get(getCell(latitude, longitude));
+                if (cellEntries == null) {
+                    continue;
+                }
+                // Candidates are read from the grid so only the entry served moves in the LRU order.
+                for (Map.Entry<EstimateKey, Entry<T, E>> cellEntry : cellEntries.entrySet()) {
+                    final EstimateKey cellKey = cellEntry.getKey();
+                    if (!cellKey.hasSameScope(key)
+                            || cellKey.hasDropoff() != key.hasDropoff()
+                            || isExpired(cellEntry.getValue(), maxAgeMillis)) {
+                        continue;
+                    }
+                    final double distance = getDistanceMeters(key, cellKey);
+                    if (distance <= reuseRadiusMeters && distance < nearestDistance) {
+                        nearestKey = cellKey;
+                        nearestDistance = distance;
+                    }
+                }
+            }
+        }
+        return nearestKey != null ? map.get(nearestKey) : null;
+    }
+
+    private boolean isExpired(@NonNull Entry<?, ?> entry, long maxAgeMillis) {
+        return clock.elapsedMillis() - entry.createdAtMillis > maxAgeMillis;
+    }
+
+    /**
+     * @return the larger of the pickup and dropoff distances between two keys, using an equirectangular
+     * approximation which is accurate enough at reuse radii.
+     */
+    private static double getDistanceMeters(@NonNull EstimateKey first, @NonNull EstimateKey second) {
+        final double pickupDistance = getDistanceMeters(first.pickupLatitude, first.pickupLongitude,
+                second.pickupLatitude, second.pickupLongitude);
+        if (!first.hasDropoff()) {
+            return pickupDistance;
+        }
+        return Math.max(pickupDistance, getDistanceMeters(first.dropoffLatitude, first.dropoffLongitude,
+                second.dropoffLatitude, second.dropoffLongitude));
+    }
+
+    private static double getDistanceMeters(
+            double firstLatitude,
+            double firstLongitude,
+            double secondLatitude,
+            double secondLongitude) {
+        final double x = Math.toRadians(secondLongitude - firstLongitude)
+                * Math.cos(Math.toRadians((firstLatitude + secondLatitude) / 2));
+        final double y = Math.toRadians(secondLatitude - firstLatitude);
+        return Math.sqrt(x * x + y * y) * Math.toDegrees(1) * METERS_PER_DEGREE;
+    }
+
+    private long getCellIndex(double degrees) {
+        return (long) Math.floor(degrees / gridCellDegrees);
+    }
+
+    private static long getCell(long latitudeCell, long longitudeCell) {
+        return (latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+
+    private long getCell(@NonNull EstimateKey key) {
+        return getCell(getCellIndex(key.pickupLatitude), getCellIndex(key.pickupLongitude));
+    }
+
+    private <T, E> void addToGrid(
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid,
+            @NonNull EstimateKey key,
+            @NonNull Entry<T, E> entry) {
+        if (reuseRadiusMeters <= 0) {
+            return;
+        }
+        final long cell = getCell(key);
+        Map<EstimateKey, Entry<T, E>> cellEntries = grid.get(cell);
+        if (cellEntries == null) {
+            cellEntries = new HashMap<>();
+            grid.put(cell, cellEntries);
+        }
+        cellEntries.put(key, entry);
+    }
+
+    private <T, E> void removeFromGrid(
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid,
+            @NonNull EstimateKey key) {
+        if (reuseRadiusMeters <= 0) {
+            return;
+        }
+        final long cell = getCell(key);
+        final Map<EstimateKey, Entry<T, E>> cellEntries = grid.get(cell);
+        if (cellEntries != null && cellEntries.remove(key) != null && cellEntries.isEmpty()) {
+            grid.remove(cell);
+        }
+    }
+
+    private <T, E> void rebuildGrid(
+            @NonNull Map<EstimateKey, Entry<T, E>> map,
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid) {
+        grid.clear();
+        for (Map.Entry<EstimateKey, Entry<T, E>> entry : map.entrySet()) {
+            addToGrid(grid, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private <T, E> void remove(
+            @NonNull Map<EstimateKey, Entry<T, E>> map,
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid,
+            @NonNull EstimateKey key) {
+        if (map.remove(key) != null) {
+            removeFromGrid(grid, key);
+        }
+    }
+
+    @Nullable
+    private static <T, E> Map<String, E> getIndex(
+            @NonNull Map<EstimateKey, Entry<T, E>> map,
+            @NonNull EstimateKey key,
+            @NonNull T response) {
+        // Not counted as a lookup, the response was already served by get().
+        final Entry<T, E> entry = map.get(key);
+        return entry != null && entry.value == response ? entry.index : null;
+    }
+
+    private long getAgeMillis(@NonNull Map<EstimateKey, ? extends Entry<?, ?>> map, @NonNull EstimateKey key) {
+        final Entry<?, ?> entry = map.get(key);
+        if (entry == null) {
+            return -1;
+        }
+        final long ageMillis = clock.elapsedMillis() - entry.createdAtMillis;
+        return ageMillis > timeToLiveMillis ? -1 : ageMillis;
+    }
+
+    private <T, E> void put(
+            @NonNull Map<EstimateKey, Entry<T, E>> map,
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid,
+            @NonNull EstimateKey key,
+            @NonNull T value,
+            @NonNull Map<String, E> index) {
+        if (maxEntries == 0) {
+            return;
+        }
+        final Entry<T, E> entry = new Entry<>(value, index, clock.elapsedMillis());
+        map.put(key, entry);
+        addToGrid(grid, key, entry);
+    }
+
+    private <T, E> void trimToSize(
+            @NonNull Map<EstimateKey, Entry<T, E>> map,
+            @NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid) {
+        Iterator<EstimateKey> iterator = map.keySet().iterator();
+        while (map.size() > maxEntries && iterator.hasNext()) {
+            removeFromGrid(grid, iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry<T, E> {
+
+        final T value;
+        /**
+         * Estimates of {@link #value} by product id, built once when the response is cached.
+         */
+        @NonNull
+        final Map<String, E> index;
+        final long createdAtMillis;
+
+        Entry(T value, @NonNull Map<String, E> index, long createdAtMillis) {
+            this.value = value;
+            this.index = index;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+
+    private final class LruMap<T, E> extends LinkedHashMap<EstimateKey, Entry<T, E>> {
+
+        @NonNull
+        private final Map<Long, Map<EstimateKey, Entry<T, E>>> grid;
+
+        LruMap(@NonNull Map<Long, Map<EstimateKey, Entry<T, E>>> grid) {
+            super(16, 0.75f, true);
+            this.grid = grid;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EstimateKey, Entry<T, E>> eldest) {
+            if (size() > maxEntries) {
+                removeFromGrid(grid, eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Identifies an estimate request by the coordinates sent to the Rides API. Time estimates only depend on the
+ * pickup point, price estimates on both pickup and dropoff. Product id is deliberately not part of the key since
+ * the API returns every product available at the location in a single response.
+ * <p>
+ * A key may be scoped to the credentials it was requested with, see {@link #withScope(Object)}, so responses are
+ * never shared between sessions. Scopes are compared with {@link Object#equals(Object)}.
+ */
+final class EstimateKey {
+
+    final float pickupLatitude;
+    final float pickupLongitude;
+    final float dropoffLatitude;
+    final float dropoffLongitude;
+    @Nullable
+    final Object scope;
+    private final boolean hasDropoff;
+
+    private EstimateKey(
+            float pickupLatitude,
+            float pickupLongitude,
+            float dropoffLatitude,
+            float dropoffLongitude,
+            boolean hasDropoff,
+            @Nullable Object scope) {
+        this.pickupLatitude = pickupLatitude;
+        this.pickupLongitude = pickupLongitude;
+        this.dropoffLatitude = dropoffLatitude;
+        this.dropoffLongitude = dropoffLongitude;
+        this.hasDropoff = hasDropoff;
+        this.scope = scope;
+    }
+
+    @NonNull
+    static EstimateKey forPickup(float pickupLatitude, float pickupLongitude) {
+        return new EstimateKey(pickupLatitude, pickupLongitude, 0f, 0f, false, null);
+    }
+
+    @NonNull
+    static EstimateKey forTrip(
+            float pickupLatitude,
+            float pickupLongitude,
+            float dropoffLatitude,
+            float dropoffLongitude) {
+        return new EstimateKey(pickupLatitude, pickupLongitude, dropoffLatitude, dropoffLongitude, true, null);
+    }
+
+    /**
+     * @return a key for the same coordinates, only equal to keys with an equal {@code scope}.
+     */
+    @NonNull
+    EstimateKey withScope(@Nullable Object scope) {
+        return new EstimateKey(pickupLatitude, pickupLongitude, dropoffLatitude, dropoffLongitude, hasDropoff, scope);
+    }
+
+    boolean hasDropoff() {
+        return hasDropoff;
+    }
+
+    boolean hasSameScope(@NonNull EstimateKey other) {
+        return scope != null ? scope.equals(other.scope) : other.scope == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        EstimateKey that = (EstimateKey) o;
+        return hasDropoff == that.hasDropoff
+                && hasSameScope(that)
+                && Float.compare(that.pickupLatitude, pickupLatitude) == 0
+                && Float.compare(that.pickupLongitude, pickupLongitude) == 0
+                && Float.compare(that.dropoffLatitude, dropoffLatitude) == 0
+                && Float.compare(that.dropoffLongitude, dropoffLongitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Float.floatToIntBits(pickupLatitude);
+        result = 31 * result + Float.floatToIntBits(pickupLongitude);
+        result = 31 * result + Float.floatToIntBits(dropoffLatitude);
+        result = 31 * result + Float.floatToIntBits(dropoffLongitude);
+        result = 31 * result + (hasDropoff ? 1 : 0);
+        result = 31 * result + (scope != null ? scope.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return hasDropoff
+                ? pickupLatitude + "," + pickupLongitude + "->" + dropoffLatitude + "," + dropoffLongitude
+                : pickupLatitude + "," + pickupLongitude;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Process-wide queue of button loads, bounding how many hit the network at once so visible buttons are not stuck
+ * behind off-screen ones in the HTTP client's per-host limit. Queued loads of visible buttons start first, and the
+ * most recently submitted or promoted load of a priority starts first, which favours the rows a list just scrolled
+ * to. A load leaves the queue when cancelled, for example because its button was detached.
+ */
+public final class EstimateLoadScheduler {
+
+    public static final int DEFAULT_MAX_CONCURRENT_LOADS = 4;
+
+    private static final EstimateLoadScheduler INSTANCE = new EstimateLoadScheduler();
+
+    @NonNull
+    private final List<Task> queuedTasks = new ArrayList<>();
+
+    private int maxConcurrentLoads = DEFAULT_MAX_CONCURRENT_LOADS;
+    private int runningCount;
+    private long nextSequence;
+
+    @VisibleForTesting
+    EstimateLoadScheduler() {
+    }
+
+    @NonNull
+    public static EstimateLoadScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets how many button loads may be waiting on the network at once.
+     */
+    public void setMaxConcurrentLoads(int maxConcurrentLoads) {
+        checkState(maxConcurrentLoads > 0, "Max concurrent loads must be positive.");
+        synchronized (this) {
+            this.maxConcurrentLoads = maxConcurrentLoads;
+        }
+        dispatch();
+    }
+
+    @VisibleForTesting
+    synchronized int getQueuedCount() {
+        return queuedTasks.size();
+    }
+
+    @VisibleForTesting
+    synchronized int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * Creates a handle for {@code load}, which is queued by {@link Task#submit(boolean)}. Once started, the load must
+     * be completed through {@link Task#finish()} or {@link Task#cancel()} to free its slot.
+     */
+    @NonNull
+    Task createTask(@NonNull Runnable load) {
+        return new Task(load);
+    }
+
+    private void dispatch() {
+        while (true) {
+            final Task task;
+            synchronized (this) {
+                if (runningCount >= maxConcurrentLoads || queuedTasks.isEmpty()) {
+                    return;
+                }
+                task = pollHighestPriority();
+                task.running = true;
+                runningCount++;
+            }
+            task.load.run();
+        }
+    }
+
+    @NonNull
+    private Task pollHighestPriority() {
+        int bestIndex = 0;
+        for (int i = 1; i < queuedTasks.size(); i++) {
+            final Task candidate = queuedTasks.get(i);
+            final Task best = queuedTasks.get(bestIndex);
+            if (candidate.visible != best.visible ? candidate.visible : candidate.sequence > best.sequence) {
+                bestIndex = i;
+            }
+        }
+        return queuedTasks.remove(bestIndex);
+    }
+
+    /**
+     * Handle to a load submitted to {@link EstimateLoadScheduler}.
+     */
+    final class Task {
+
+        @NonNull
+        private final Runnable load;
+        private boolean visible;
+        private long sequence;
+        private boolean running;
+        private boolean done;
+
+        Task(@NonNull Runnable load) {
+            this.load = load;
+        }
+
+        /**
+         * Queues the load, which may start and even finish before this method returns.
+         */
+        void submit(boolean visible) {
+            synchronized (EstimateLoadScheduler.this) {
+                this.visible = visible;
+                this.sequence = nextSequence++;
+                queuedTasks.add(this);
+            }
+            dispatch();
+        }
+
+        /**
+         * Promotes a queued load when its button becomes visible, or demotes it when hidden.
+         */
+        void setVisible(boolean visible) {
+            synchronized (EstimateLoadScheduler.this) {
+                if (this.visible == visible || running || done) {
+                    return;
+                }
+                this.visible = visible;
+                if (visible) {
+                    sequence = nextSequence++;
+                }
+            }
+        }
+
+        /**
+         * The load has received its responses.
+         */
+        void finish() {
+            synchronized (EstimateLoadScheduler.this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (running) {
+                    runningCount--;
+                } else {
+                    queuedTasks.remove(this);
+                }
+            }
+            dispatch();
+        }
+
+        /**
+         * Drops a queued load, or frees the slot of a running one.
+         */
+        void cancel() {
+            finish();
+        }
+
+        @VisibleForTesting
+        boolean isRunning() {
+            synchronized (EstimateLoadScheduler.this) {
+                return running && !done;
+            }
+        }
+    }
+}
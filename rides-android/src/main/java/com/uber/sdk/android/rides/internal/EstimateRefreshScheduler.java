@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Schedules periodic estimate refreshes for a {@link RideRequestButtonController}. Refreshes only run while the
+ * button is visible; consecutive failures back the interval off exponentially.
+ */
+final class EstimateRefreshScheduler {
+
+    private static final int MAX_BACKOFF_SHIFT = 5;
+
+    @NonNull
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    @NonNull
+    private final Runnable refreshRunnable;
+
+    private long intervalMillis;
+    private int failureCount;
+    private boolean visible = true;
+    /**
+     * Uptime at which the next refresh is due, or -1 if none is scheduled.
+     */
+    private long nextRefreshAtMillis = -1;
+
+    EstimateRefreshScheduler(@NonNull final Runnable refresh) {
+        this.refreshRunnable = new Runnable() {
+            @Override
+            public void run() {
+                nextRefreshAtMillis = -1;
+                refresh.run();
+            }
+        };
+    }
+
+    /**
+     * @param intervalMillis time between refreshes, 0 to stop refreshing.
+     */
+    void setInterval(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+        if (intervalMillis <= 0) {
+            cancel();
+        }
+    }
+
+    long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Pauses refreshes while not visible. When visible again, an overdue refresh runs right away.
+     */
+    void setVisible(boolean visible) {
+        if (this.visible == visible) {
+            return;
+        }
+        this.visible = visible;
+        handler.removeCallbacks(refreshRunnable);
+        if (visible && nextRefreshAtMillis >= 0) {
+            handler.postDelayed(refreshRunnable, Math.max(0, nextRefreshAtMillis - SystemClock.uptimeMillis()));
+        }
+    }
+
+    void onLoadSucceeded() {
+        failureCount = 0;
+        scheduleIn(intervalMillis);
+    }
+
+    void onLoadFailed() {
+        failureCount++;
+        scheduleIn(intervalMillis << Math.min(failureCount, MAX_BACKOFF_SHIFT));
+    }
+
+    void scheduleIn(long delayMillis) {
+        if (intervalMillis <= 0) {
+            return;
+        }
+        nextRefreshAtMillis = SystemClock.uptimeMillis() + delayMillis;
+        handler.removeCallbacks(refreshRunnable);
+        if (visible) {
+            handler.postDelayed(refreshRunnable, delayMillis);
+        }
+    }
+
+    void cancel() {
+        handler.removeCallbacks(refreshRunnable);
+        nextRefreshAtMillis = -1;
+        failureCount = 0;
+    }
+}
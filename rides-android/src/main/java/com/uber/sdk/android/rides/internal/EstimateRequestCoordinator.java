@@ -0,0 +1,718 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.android.rides.EstimateSource;
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.error.ErrorParser;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Shared entry point for estimate requests. Responses are served from {@link EstimateCache} when fresh, and
+ * concurrent requests for the same location are collapsed into a single network call whose result is fanned out to
+ * every waiting {@link EstimatesCallback}. Both are scoped to the credentials of the {@link RidesService}, see
+ * {@link SessionScope}, so consumers using different sessions never share a response or an error, while a service
+ * recreated for the same session keeps its cached responses. Network calls go through a {@link CircuitBreaker} and a
+ * {@link RateLimiter}. A call over the limiter's budget is delayed, while a call rejected by an open circuit or a 429
+ * penalty fails its subscribers immediately with an {@link ApiError}.
+ */
+public final class EstimateRequestCoordinator {
+
+    private static final EstimateRequestCoordinator INSTANCE =
+            new EstimateRequestCoordinator(EstimateCache.getInstance(), Clock.SYSTEM, null, RateLimiter.getInstance());
+
+    static {
+        INSTANCE.setCircuitBreaker(new CircuitBreaker.Builder().build());
+    }
+
+    @NonNull
+    private final EstimateCache estimateCache;
+    @NonNull
+    private final Clock clock;
+    @NonNull
+    private final Map<EstimateKey, InFlight<TimeEstimatesResponse>> pendingTimeEstimates = new HashMap<>();
+    @NonNull
+    private final Map<EstimateKey, InFlight<PriceEstimatesResponse>> pendingPriceEstimates = new HashMap<>();
+    @NonNull
+    private final RidesServiceRegistry ridesServiceRegistry;
+    /**
+     * Scope token per service not created by {@link #ridesServiceRegistry}. Keys hold the token rather than the
+     * service so cached responses do not keep a released HTTP stack alive.
+     */
+    @NonNull
+    private final Map<RidesService, Object> unregisteredScopes = new WeakHashMap<>();
+
+    @Nullable
+    private final RateLimiter rateLimiter;
+
+    @Nullable
+    private ScheduledExecutorService scheduler;
+    @Nullable
+    private volatile HedgingPolicy hedgingPolicy;
+    @Nullable
+    private volatile CircuitBreaker circuitBreaker;
+
+    @VisibleForTesting
+    EstimateRequestCoordinator(@NonNull EstimateCache estimateCache) {
+        this(estimateCache, Clock.SYSTEM, null);
+    }
+
+    @VisibleForTesting
+    EstimateRequestCoordinator(
+            @NonNull EstimateCache estimateCache,
+            @NonNull Clock clock,
+            @Nullable ScheduledExecutorService scheduler) {
+        this(estimateCache, clock, scheduler, null);
+    }
+
+    @VisibleForTesting
+    EstimateRequestCoordinator(
+            @NonNull EstimateCache estimateCache,
+            @NonNull Clock clock,
+            @Nullable ScheduledExecutorService scheduler,
+            @Nullable RateLimiter rateLimiter) {
+        this(estimateCache, clock, scheduler, rateLimiter, RidesServiceRegistry.getInstance());
+    }
+
+    @VisibleForTesting
+    EstimateRequestCoordinator(
+            @NonNull EstimateCache estimateCache,
+            @NonNull Clock clock,
+            @Nullable ScheduledExecutorService scheduler,
+            @Nullable RateLimiter rateLimiter,
+            @NonNull RidesServiceRegistry ridesServiceRegistry) {
+        this.estimateCache = estimateCache;
+        this.clock = clock;
+        this.scheduler = scheduler;
+        this.rateLimiter = rateLimiter;
+        this.ridesServiceRegistry = ridesServiceRegistry;
+    }
+
+    /**
+     * @return the coordinator shared by every estimate consumer in the process.
+     */
+    @NonNull
+    public static EstimateRequestCoordinator getInstance() {
+        return INSTANCE;
+    }
+
+    @NonNull
+    EstimateCache getEstimateCache() {
+        return estimateCache;
+    }
+
+    /**
+     * Sets the policy used to hedge slow estimate requests with a second identical request, whichever completes
+     * first is used and the other one is cancelled. Null, the default, disables hedging.
+     */
+    public void setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    @Nullable
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Sets the breaker which fails estimate requests immediately while the backend is failing. The shared
+     * coordinator uses a breaker with default settings; null disables it.
+     */
+    public void setCircuitBreaker(@Nullable CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Nullable
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Loads the pickup time estimates for every product at a location.
+     *
+     * @return a {@link Subscription} which stops delivery to {@code callback} when cancelled.
+     */
+    @NonNull
+    public Subscription loadTimeEstimates(
+            @NonNull final RidesService ridesService,
+            final float latitude,
+            final float longitude,
+            @NonNull EstimatesCallback<TimeEstimatesResponse> callback) {
+        final EstimateKey key = scope(ridesService, EstimateKey.forPickup(latitude, longitude));
+        return load(pendingTimeEstimates, key, callback, new Request<TimeEstimatesResponse>() {
+            @Nullable
+            @Override
+            TimeEstimatesResponse getCached() {
+                return estimateCache.getTimeEstimates(key);
+            }
+
+            @Override
+            void putCached(@NonNull TimeEstimatesResponse response) {
+                estimateCache.putTimeEstimates(key, response);
+            }
+
+            @NonNull
+            @Override
+            Call<TimeEstimatesResponse> createCall() {
+                // Product id is not sent so the response covers every product and can be shared per location.
+                return ridesService.getPickupTimeEstimate(latitude, longitude, null);
+            }
+        });
+    }
+
+    /**
+     * Loads the price estimates for every product between two locations.
+     *
+     * @return a {@link Subscription} which stops delivery to {@code callback} when cancelled.
+     */
+    @NonNull
+    public Subscription loadPriceEstimates(
+            @NonNull final RidesService ridesService,
+            final float startLatitude,
+            final float startLongitude,
+            final float endLatitude,
+            final float endLongitude,
+            @NonNull EstimatesCallback<PriceEstimatesResponse> callback) {
+        final EstimateKey key = scope(ridesService,
+                EstimateKey.forTrip(startLatitude, startLongitude, endLatitude, endLongitude));
+        return load(pendingPriceEstimates, key, callback, new Request<PriceEstimatesResponse>() {
+            @Nullable
+            @Override
+            PriceEstimatesResponse getCached() {
+                return estimateCache.getPriceEstimates(key);
+            }
+
+            @Override
+            void putCached(@NonNull PriceEstimatesResponse response) {
+                estimateCache.putPriceEstimates(key, response);
+            }
+
+            @NonNull
+            @Override
+            Call<PriceEstimatesResponse> createCall() {
+                return ridesService.getPriceEstimates(startLatitude, startLongitude, endLatitude, endLongitude);
+            }
+        });
+    }
+
+    /**
+     * Picks the estimate for {@code productId} out of a response delivered by
+     * {@link #loadTimeEstimates(RidesService, float, float, EstimatesCallback)} for the same service and location,
+     * using the product id index cached with the response.
+     *
+     * @return the estimate for {@code productId}, the first estimate if no product was requested, or null if the
+     * product is not available.
+     */
+    @Nullable
+    public TimeEstimate selectTimeEstimate(
+            @NonNull RidesService ridesService,
+            float latitude,
+            float longitude,
+            @NonNull TimeEstimatesResponse response,
+            @Nullable String productId) {
+        final Map<String, TimeEstimate> index = productId != null
+                ? estimateCache.getTimeEstimatesIndex(scope(ridesService, EstimateKey.forPickup(latitude, longitude)),
+                        response)
+                : null;
+        return EstimateSelector.selectTimeEstimate(response, productId, index);
+    }
+
+    /**
+     * Picks the estimate for {@code productId} out of a response delivered by
+     * {@link #loadPriceEstimates(RidesService, float, float, float, float, EstimatesCallback)} for the same service
+     * and locations, using the product id index cached with the response.
+     *
+     * @return the estimate for {@code productId}, the first estimate if no product was requested, or null if the
+     * product is not available.
+     */
+    @Nullable
+    public PriceEstimate selectPriceEstimate(
+            @NonNull RidesService ridesService,
+            float startLatitude,
+            float startLongitude,
+            float endLatitude,
+            float endLongitude,
+            @NonNull PriceEstimatesResponse response,
+            @Nullable String productId) {
+        final Map<String, PriceEstimate> index = productId != null
+                ? estimateCache.getPriceEstimatesIndex(scope(ridesService,
+                        EstimateKey.forTrip(startLatitude, startLongitude, endLatitude, endLongitude)), response)
+                : null;
+        return EstimateSelector.selectPriceEstimate(response, productId, index);
+    }
+
+    /**
+     * @return {@code key} scoped to the credentials of {@code ridesService}, as used for the {@link EstimateCache}
+     * entries it loads.
+     */
+    @NonNull
+    EstimateKey scope(@NonNull RidesService ridesService, @NonNull EstimateKey key) {
+        return key.withScope(getScope(ridesService));
+    }
+
+    /**
+     * @return the scope of the credentials of {@code ridesService}. A service created by hand, outside of
+     * {@link RidesServiceRegistry}, gets a scope of its own.
+     */
+    @NonNull
+    synchronized Object getScope(@NonNull RidesService ridesService) {
+        Object scope = ridesServiceRegistry.getScope(ridesService);
+        if (scope == null) {
+            scope = unregisteredScopes.get(ridesService);
+            if (scope == null) {
+                scope = new Object();
+                unregisteredScopes.put(ridesService, scope);
+            }
+        }
+        return scope;
+    }
+
+    @VisibleForTesting
+    synchronized int getInFlightCount() {
+        return pendingTimeEstimates.size() + pendingPriceEstimates.size();
+    }
+
+    @NonNull
+    private <T> Subscription load(
+            @NonNull Map<EstimateKey, InFlight<T>> pending,
+            @NonNull EstimateKey key,
+            @NonNull EstimatesCallback<T> callback,
+            @NonNull Request<T> request) {
+        final T cached = request.getCached();
+        if (cached != null) {
+            callback.onEstimatesLoaded(cached, EstimateSource.CACHE);
+            return new Subscription(null, callback, EstimateSource.CACHE);
+        }
+
+        final InFlight<T> inFlight;
+        final Subscription subscription;
+        boolean isNew = false;
+        synchronized (this) {
+            InFlight<T> existing = pending.get(key);
+            if (existing == null) {
+                existing = new InFlight<>(pending, key, request);
+                pending.put(key, existing);
+                isNew = true;
+            }
+            inFlight = existing;
+            subscription = new Subscription(inFlight, callback, isNew ? EstimateSource.NETWORK : EstimateSource.JOINED);
+            inFlight.subscriptions.add(subscription);
+        }
+
+        if (isNew) {
+            inFlight.start();
+        }
+        return subscription;
+    }
+
+    private synchronized void unsubscribe(@NonNull InFlight<?> inFlight, @NonNull Subscription subscription) {
+        inFlight.subscriptions.remove(subscription);
+        if (inFlight.subscriptions.isEmpty() && inFlight.pending.get(inFlight.key) == inFlight) {
+            inFlight.pending.remove(inFlight.key);
+            inFlight.cancel();
+        }
+    }
+
+    @NonNull
+    private synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "UberSdk-EstimateScheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return scheduler;
+    }
+
+    @NonNull
+    private synchronized <T> List<Subscription> complete(@NonNull InFlight<T> inFlight) {
+        if (inFlight.pending.get(inFlight.key) == inFlight) {
+            inFlight.pending.remove(inFlight.key);
+        }
+        List<Subscription> subscriptions = new ArrayList<>(inFlight.subscriptions);
+        inFlight.subscriptions.clear();
+        return subscriptions;
+    }
+
+    /**
+     * Handle to a single consumer of an estimate request.
+     */
+    public final class Subscription {
+
+        @Nullable
+        private final InFlight<?> inFlight;
+        @Nullable
+        private EstimatesCallback<?> callback;
+        @NonNull
+        private final EstimateSource source;
+
+        Subscription(
+                @Nullable InFlight<?> inFlight,
+                @NonNull EstimatesCallback<?> callback,
+                @NonNull EstimateSource source) {
+            this.inFlight = inFlight;
+            this.callback = inFlight != null ? callback : null;
+            this.source = source;
+        }
+
+        /**
+         * @return whether the estimates were served from the cache, by a request sent for an earlier subscriber or by
+         * a request sent for this one.
+         */
+        @NonNull
+        public EstimateSource getSource() {
+            return source;
+        }
+
+        /**
+         * Stops delivery to this subscriber. The network call is cancelled once no subscriber is left.
+         */
+        public void cancel() {
+            synchronized (EstimateRequestCoordinator.this) {
+                if (callback == null) {
+                    return;
+                }
+                callback = null;
+            }
+            unsubscribe(inFlight, this);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        private <T> EstimatesCallback<T> detach() {
+            synchronized (EstimateRequestCoordinator.this) {
+                EstimatesCallback<T> detached = (EstimatesCallback<T>) callback;
+                callback = null;
+                return detached;
+            }
+        }
+    }
+
+    private abstract static class Request<T> {
+
+        @Nullable
+        abstract T getCached();
+
+        abstract void putCached(@NonNull T response);
+
+        @NonNull
+        abstract Call<T> createCall();
+    }
+
+    private final class InFlight<T> {
+
+        @NonNull
+        final Map<EstimateKey, InFlight<T>> pending;
+        @NonNull
+        final EstimateKey key;
+        @NonNull
+        final List<Subscription> subscriptions = new ArrayList<>();
+        @NonNull
+        private final Request<T> request;
+        @NonNull
+        private final List<Call<T>> calls = new ArrayList<>(2);
+        @Nullable
+        private HedgingPolicy hedgingPolicy;
+        @Nullable
+        private CircuitBreaker circuitBreaker;
+        @Nullable
+        private ScheduledFuture<?> sendFuture;
+        @Nullable
+        private ScheduledFuture<?> hedgeFuture;
+        private long startedAtMillis;
+        private int runningCount;
+        private boolean probe;
+        private boolean cancelled;
+        private boolean completed;
+
+        InFlight(
+                @NonNull Map<EstimateKey, InFlight<T>> pending,
+                @NonNull EstimateKey key,
+                @NonNull Request<T> request) {
+            this.pending = pending;
+            this.key = key;
+            this.request = request;
+        }
+
+        void start() {
+            final CircuitBreaker circuitBreaker = EstimateRequestCoordinator.this.circuitBreaker;
+            final CircuitBreaker.Permit permit = circuitBreaker != null
+                    ? circuitBreaker.allowRequest()
+                    : CircuitBreaker.Permit.ALLOWED;
+            if (permit == CircuitBreaker.Permit.REJECTED) {
+                reject(CircuitBreaker.createOpenCircuitError());
+                return;
+            }
+            synchronized (this) {
+                this.circuitBreaker = circuitBreaker;
+                this.probe = permit == CircuitBreaker.Permit.PROBE;
+                if (cancelled) {
+                    abandonProbe();
+                    return;
+                }
+            }
+
+            final long delayMillis = rateLimiter != null ? rateLimiter.reserve() : 0;
+            if (delayMillis < 0) {
+                abandonProbe();
+                reject(RateLimiter.createRateLimitedError());
+                return;
+            }
+            if (delayMillis > 0) {
+                scheduleFirst(delayMillis);
+                return;
+            }
+            sendFirst();
+        }
+
+        /**
+         * Sends the first attempt once the rate limiter's budget allows it. Subscribers keep joining this request
+         * while it waits.
+         */
+        private synchronized void scheduleFirst(long delayMillis) {
+            if (cancelled) {
+                return;
+            }
+            sendFuture = getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    sendFirst();
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void sendFirst() {
+            if (cancelled) {
+                return;
+            }
+            startedAtMillis = clock.elapsedMillis();
+            hedgingPolicy = EstimateRequestCoordinator.this.hedgingPolicy;
+            send();
+
+            if (hedgingPolicy == null) {
+                return;
+            }
+            hedgingPolicy.onRequestSent();
+            if (probe) {
+                // The breaker lets a single probe through while half open, a hedge would be a second one.
+                return;
+            }
+            hedgeFuture = getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    hedge();
+                }
+            }, hedgingPolicy.getDelayMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        synchronized void cancel() {
+            if (!completed && !cancelled) {
+                abandonProbe();
+            }
+            cancelled = true;
+            if (sendFuture != null) {
+                sendFuture.cancel(false);
+            }
+            if (hedgeFuture != null) {
+                hedgeFuture.cancel(false);
+            }
+            for (Call<T> call : calls) {
+                call.cancel();
+            }
+        }
+
+        /**
+         * Releases the circuit breaker's probe slot if this request holds it and will not report an outcome.
+         */
+        private synchronized void abandonProbe() {
+            if (probe && circuitBreaker != null) {
+                probe = false;
+                circuitBreaker.onAbandoned();
+            }
+        }
+
+        /**
+         * @return the permit this request was sent with, so only the probe moves the breaker out of half open.
+         */
+        @NonNull
+        private synchronized CircuitBreaker.Permit getPermit() {
+            return probe ? CircuitBreaker.Permit.PROBE : CircuitBreaker.Permit.ALLOWED;
+        }
+
+        private synchronized void hedge() {
+            if (completed || cancelled || hedgingPolicy == null) {
+                return;
+            }
+            if (circuitBreaker != null && circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+                // The breaker opened since the first attempt was sent.
+                return;
+            }
+            if (!hedgingPolicy.tryAcquireHedge()) {
+                return;
+            }
+            if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+                return;
+            }
+            send();
+        }
+
+        private void send() {
+            final Call<T> call = request.createCall();
+            calls.add(call);
+            runningCount++;
+            call.enqueue(new Callback<T>() {
+                @Override
+                public void onResponse(Call<T> call, Response<T> response) {
+                    onAttemptResponse(call, response);
+                }
+
+                @Override
+                public void onFailure(Call<T> call, Throwable throwable) {
+                    onAttemptFailure(call, throwable);
+                }
+            });
+        }
+
+        /**
+         * @return true if {@code winner} is the first call to complete, in which case every other call is cancelled.
+         */
+        private synchronized boolean finish(@NonNull Call<T> winner) {
+            if (completed || cancelled) {
+                return false;
+            }
+            completed = true;
+            if (hedgeFuture != null) {
+                hedgeFuture.cancel(false);
+            }
+            for (Call<T> call : calls) {
+                if (call != winner) {
+                    call.cancel();
+                }
+            }
+            if (hedgingPolicy != null) {
+                hedgingPolicy.recordLatency(clock.elapsedMillis() - startedAtMillis);
+            }
+            return true;
+        }
+
+        private void reject(@NonNull ApiError apiError) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                completed = true;
+            }
+
+            for (Subscription subscription : complete(this)) {
+                EstimatesCallback<T> callback = subscription.detach();
+                if (callback != null) {
+                    callback.onError(apiError);
+                }
+            }
+        }
+
+        private void onAttemptResponse(@NonNull Call<T> call, @NonNull Response<T> response) {
+            if (rateLimiter != null) {
+                rateLimiter.onResponse(response);
+            }
+            if (!finish(call)) {
+                return;
+            }
+            if (circuitBreaker != null) {
+                if (response.code() >= 500) {
+                    circuitBreaker.onFailure(getPermit());
+                } else {
+                    circuitBreaker.onSuccess(getPermit());
+                }
+            }
+
+            final ApiError apiError = ErrorParser.parseError(response);
+            if (apiError == null) {
+                request.putCached(response.body());
+            }
+
+            for (Subscription subscription : complete(this)) {
+                EstimatesCallback<T> callback = subscription.detach();
+                if (callback == null) {
+                    continue;
+                }
+                if (apiError != null) {
+                    callback.onError(apiError);
+                } else {
+                    callback.onEstimatesLoaded(response.body(), subscription.getSource());
+                }
+            }
+        }
+
+        private void onAttemptFailure(@NonNull Call<T> call, @NonNull Throwable throwable) {
+            synchronized (this) {
+                if (!completed && runningCount > 1) {
+                    // Another attempt is still running and may succeed.
+                    runningCount--;
+                    calls.remove(call);
+                    return;
+                }
+            }
+            if (!finish(call)) {
+                return;
+            }
+            if (circuitBreaker != null) {
+                circuitBreaker.onFailure(getPermit());
+            }
+
+            for (Subscription subscription : complete(this)) {
+                EstimatesCallback<T> callback = subscription.detach();
+                if (callback != null) {
+                    callback.onError(throwable);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.error.ClientError;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Picks the estimate for a requested product out of a full estimates response. {@link EstimateCache} keeps a product
+ * id index next to each cached response, see {@link EstimateRequestCoordinator#selectTimeEstimate}, so consumers
+ * sharing a response do not scan it again.
+ */
+public final class EstimateSelector {
+
+    private EstimateSelector() {
+    }
+
+    /**
+     * @return the estimate for {@code productId}, the first estimate if no product was requested, or null if the
+     * product is not available.
+     */
+    @Nullable
+    public static TimeEstimate selectTimeEstimate(@NonNull TimeEstimatesResponse response, @Nullable String productId) {
+        return selectTimeEstimate(response, productId, null);
+    }
+
+    /**
+     * @return the estimate for {@code productId}, the first estimate if no product was requested, or null if the
+     * product is not available.
+     */
+    @Nullable
+    public static PriceEstimate selectPriceEstimate(
+            @NonNull PriceEstimatesResponse response,
+            @Nullable String productId) {
+        return selectPriceEstimate(response, productId, null);
+    }
+
+    @NonNull
+    public static ApiError createProductNoFoundError() {
+        return new ApiError(null, Arrays.asList(new ClientError(null, 404, "Product Id requested not found.")));
+    }
+
+    /**
+     * @param index built by {@link #indexTimeEstimates(TimeEstimatesResponse)} for {@code response}, or null to scan.
+     */
+    @Nullable
+    static TimeEstimate selectTimeEstimate(
+            @NonNull TimeEstimatesResponse response,
+            @Nullable String productId,
+            @Nullable Map<String, TimeEstimate> index) {
+        final List<TimeEstimate> estimates = response.getTimes();
+        if (estimates == null || estimates.size() < 1) {
+            return null;
+        }
+        if (productId == null) {
+            return estimates.get(0);
+        }
+        return index != null ? index.get(productId) : findTimeEstimate(productId, estimates);
+    }
+
+    /**
+     * @param index built by {@link #indexPriceEstimates(PriceEstimatesResponse)} for {@code response}, or null to
+     * scan.
+     */
+    @Nullable
+    static PriceEstimate selectPriceEstimate(
+            @NonNull PriceEstimatesResponse response,
+            @Nullable String productId,
+            @Nullable Map<String, PriceEstimate> index) {
+        final List<PriceEstimate> estimates = response.getPrices();
+        if (estimates == null || estimates.size() < 1) {
+            return null;
+        }
+        if (productId == null) {
+            return estimates.get(0);
+        }
+        return index != null ? index.get(productId) : findPriceEstimate(productId, estimates);
+    }
+
+    /**
+     * @return the estimates of {@code response} by product id, keeping the first estimate of a product as a scan
+     * would.
+     */
+    @NonNull
+    static Map<String, TimeEstimate> indexTimeEstimates(@NonNull TimeEstimatesResponse response) {
+        final List<TimeEstimate> estimates = response.getTimes();
+        if (estimates == null || estimates.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, TimeEstimate> index = new HashMap<>();
+        for (TimeEstimate estimate : estimates) {
+            if (estimate.getProductId() != null && !index.containsKey(estimate.getProductId())) {
+                index.put(estimate.getProductId(), estimate);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * @return the estimates of {@code response} by product id, keeping the first estimate of a product as a scan
+     * would.
+     */
+    @NonNull
+    static Map<String, PriceEstimate> indexPriceEstimates(@NonNull PriceEstimatesResponse response) {
+        final List<PriceEstimate> estimates = response.getPrices();
+        if (estimates == null || estimates.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, PriceEstimate> index = new HashMap<>();
+        for (PriceEstimate estimate : estimates) {
+            if (estimate.getProductId() != null && !index.containsKey(estimate.getProductId())) {
+                index.put(estimate.getProductId(), estimate);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    @Nullable
+    private static TimeEstimate findTimeEstimate(@NonNull String productId, @NonNull List<TimeEstimate> estimates) {
+        for (TimeEstimate estimate : estimates) {
+            if (productId.equals(estimate.getProductId())) {
+                return estimate;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static PriceEstimate findPriceEstimate(
+            @NonNull String productId,
+            @NonNull List<PriceEstimate> estimates) {
+        for (PriceEstimate estimate : estimates) {
+            if (productId.equals(estimate.getProductId())) {
+                return estimate;
+            }
+        }
+        return null;
+    }
+}
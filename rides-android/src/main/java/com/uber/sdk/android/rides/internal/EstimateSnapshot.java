@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Last-known estimate for a location, restored from {@link EstimateSnapshotStore} while a fresh request runs.
+ */
+public final class EstimateSnapshot {
+
+    private final int timeEstimateSeconds;
+    @Nullable
+    private final String priceEstimate;
+    @Nullable
+    private final String priceDisplayName;
+
+    EstimateSnapshot(int timeEstimateSeconds, @Nullable String priceEstimate, @Nullable String priceDisplayName) {
+        this.timeEstimateSeconds = timeEstimateSeconds;
+        this.priceEstimate = priceEstimate;
+        this.priceDisplayName = priceDisplayName;
+    }
+
+    public int getTimeEstimateSeconds() {
+        return timeEstimateSeconds;
+    }
+
+    /**
+     * @return the formatted price range, or null if the snapshot has no price.
+     */
+    @Nullable
+    public String getPriceEstimate() {
+        return priceEstimate;
+    }
+
+    @Nullable
+    public String getPriceDisplayName() {
+        return priceDisplayName;
+    }
+
+    public boolean hasPrice() {
+        return priceEstimate != null;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return timeEstimateSeconds + "s " + priceEstimate;
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.android.core.UberSdk;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the last-known time and price estimates per location so a button can render them, flagged as stale, in
+ * the first frame after a cold start. The file is a small versioned binary written and read on a background thread;
+ * lookups made before it has been read simply miss.
+ */
+public final class EstimateSnapshotStore {
+
+    static final int MAX_ENTRIES = 32;
+    static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final String FILE_NAME = "com.uber.sdk.android.rides.estimates";
+    private static final int MAGIC = 0x55424553;
+    private static final int VERSION = 1;
+
+    private static EstimateSnapshotStore instance;
+
+    @NonNull
+    private final File file;
+    @NonNull
+    private final Executor executor;
+    @NonNull
+    private final Map<SnapshotKey, TimeEntry> timeEntries = new BoundedMap<>();
+    @NonNull
+    private final Map<SnapshotKey, PriceEntry> priceEntries = new BoundedMap<>();
+
+    private boolean loaded;
+    private boolean writeScheduled;
+
+    @VisibleForTesting
+    EstimateSnapshotStore(@NonNull File file, @NonNull Executor executor) {
+        this.file = file;
+        this.executor = executor;
+    }
+
+    /**
+     * @return the store shared by every button of the process. The first call starts reading the snapshot file, so
+     * calling this early, e.g. from {@code Application.onCreate()}, makes estimates available for the first frame.
+     */
+    @NonNull
+    public static synchronized EstimateSnapshotStore getInstance(@NonNull Context context) {
+        if (instance == null) {
+            final File file = new File(context.getApplicationContext().getNoBackupFilesDir(), FILE_NAME);
+            instance = new EstimateSnapshotStore(file, Executors.newSingleThreadExecutor());
+            instance.load();
+        }
+        return instance;
+    }
+
+    /**
+     * Reads the snapshot file on the background executor.
+     */
+    void load() {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                read();
+            }
+        });
+    }
+
+    /**
+     * @return the last-known estimate for the location, or null if there is none younger than
+     * {@link #MAX_AGE_MILLIS}. A price is required when {@code priceKey} is set.
+     */
+    @Nullable
+    synchronized EstimateSnapshot get(
+            @NonNull EstimateKey timeKey,
+            @Nullable EstimateKey priceKey,
+            @Nullable String productId) {
+        final long now = System.currentTimeMillis();
+        final TimeEntry timeEntry = timeEntries.get(new SnapshotKey(timeKey, productId));
+        if (timeEntry == null || now - timeEntry.savedAtMillis > MAX_AGE_MILLIS) {
+            return null;
+        }
+        if (priceKey == null) {
+            return new EstimateSnapshot(timeEntry.seconds, null, null);
+        }
+
+        final PriceEntry priceEntry = priceEntries.get(new SnapshotKey(priceKey, productId));
+        if (priceEntry == null || now - priceEntry.savedAtMillis > MAX_AGE_MILLIS) {
+            return null;
+        }
+        return new EstimateSnapshot(timeEntry.seconds, priceEntry.estimate, priceEntry.displayName);
+    }
+
+    void putTimeEstimate(@NonNull EstimateKey key, @Nullable String productId, int seconds) {
+        synchronized (this) {
+            timeEntries.put(new SnapshotKey(key, productId), new TimeEntry(seconds, System.currentTimeMillis()));
+        }
+        scheduleWrite();
+    }
+
+    void putPriceEstimate(
+            @NonNull EstimateKey key,
+            @Nullable String productId,
+            @NonNull String estimate,
+            @Nullable String displayName) {
+        synchronized (this) {
+            priceEntries.put(new SnapshotKey(key, productId),
+                    new PriceEntry(estimate, displayName, System.currentTimeMillis()));
+        }
+        scheduleWrite();
+    }
+
+    private void scheduleWrite() {
+        synchronized (this) {
+            if (writeScheduled) {
+                return;
+            }
+            writeScheduled = true;
+        }
+
+        // Writes coalesce: every put made before the task runs is part of the same write.
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                write();
+            }
+        });
+    }
+
+    private void read() {
+        final Map<SnapshotKey, TimeEntry> readTimeEntries = new LinkedHashMap<>();
+        final Map<SnapshotKey, PriceEntry> readPriceEntries = new LinkedHashMap<>();
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                return;
+            }
+
+            final int timeCount = in.readShort();
+            for (int i = 0; i < timeCount; i++) {
+                final SnapshotKey key = readKey(in);
+                readTimeEntries.put(key, new TimeEntry(in.readInt(), in.readLong()));
+            }
+            final int priceCount = in.readShort();
+            for (int i = 0; i < priceCount; i++) {
+                final SnapshotKey key = readKey(in);
+                final String estimate = in.readUTF();
+                final String displayName = readNullableString(in);
+                readPriceEntries.put(key, new PriceEntry(estimate, displayName, in.readLong()));
+            }
+        } catch (FileNotFoundException e) {
+            // Nothing persisted yet.
+        } catch (IOException e) {
+            Log.w(UberSdk.UBER_SDK_LOG_TAG, "Unable to read estimate snapshots", e);
+            readTimeEntries.clear();
+            readPriceEntries.clear();
+        } finally {
+            closeQuietly(in);
+            synchronized (this) {
+                // Entries put while reading are newer than the file.
+                readTimeEntries.putAll(timeEntries);
+                readPriceEntries.putAll(priceEntries);
+                timeEntries.clear();
+                timeEntries.putAll(readTimeEntries);
+                priceEntries.clear();
+                priceEntries.putAll(readPriceEntries);
+                loaded = true;
+            }
+        }
+    }
+
+    private void write() {
+        final List<Map.Entry<SnapshotKey, TimeEntry>> timeSnapshot;
+        final List<Map.Entry<SnapshotKey, PriceEntry>> priceSnapshot;
+        synchronized (this) {
+            writeScheduled = false;
+            timeSnapshot = new ArrayList<>(timeEntries.entrySet());
+            priceSnapshot = new ArrayList<>(priceEntries.entrySet());
+        }
+
+        final File tempFile = new File(file.getPath() + ".tmp");
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+
+            out.writeShort(timeSnapshot.size());
+            for (Map.Entry<SnapshotKey, TimeEntry> entry : timeSnapshot) {
+                writeKey(out, entry.getKey());
+                out.writeInt(entry.getValue().seconds);
+                out.writeLong(entry.getValue().savedAtMillis);
+            }
+            out.writeShort(priceSnapshot.size());
+            for (Map.Entry<SnapshotKey, PriceEntry> entry : priceSnapshot) {
+                writeKey(out, entry.getKey());
+                out.writeUTF(entry.getValue().estimate);
+                writeNullableString(out, entry.getValue().displayName);
+                out.writeLong(entry.getValue().savedAtMillis);
+            }
+            out.close();
+            out = null;
+
+            if (!tempFile.renameTo(file)) {
+                Log.w(UberSdk.UBER_SDK_LOG_TAG, "Unable to replace estimate snapshots");
+            }
+        } catch (IOException e) {
+            Log.w(UberSdk.UBER_SDK_LOG_TAG, "Unable to write estimate snapshots", e);
+        } finally {
+            closeQuietly(out);
+        }
+    }
+
+    @VisibleForTesting
+    synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    @NonNull
+    private static SnapshotKey readKey(@NonNull DataInputStream in) throws IOException {
+        final float pickupLatitude = in.readFloat();
+        final float pickupLongitude = in.readFloat();
+        final EstimateKey estimateKey = in.readBoolean()
+                ? EstimateKey.forTrip(pickupLatitude, pickupLongitude, in.readFloat(), in.readFloat())
+                : EstimateKey.forPickup(pickupLatitude, pickupLongitude);
+        return new SnapshotKey(estimateKey, readNullableString(in));
+    }
+
+    private static void writeKey(@NonNull DataOutputStream out, @NonNull SnapshotKey key) throws IOException {
+        out.writeFloat(key.estimateKey.pickupLatitude);
+        out.writeFloat(key.estimateKey.pickupLongitude);
+        out.writeBoolean(key.estimateKey.hasDropoff());
+        if (key.estimateKey.hasDropoff()) {
+            out.writeFloat(key.estimateKey.dropoffLatitude);
+            out.writeFloat(key.estimateKey.dropoffLongitude);
+        }
+        writeNullableString(out, key.productId);
+    }
+
+    @Nullable
+    private static String readNullableString(@NonNull DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableString(@NonNull DataOutputStream out, @Nullable String value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void closeQuietly(@Nullable Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static final class SnapshotKey {
+
+        @NonNull
+        final EstimateKey estimateKey;
+        @Nullable
+        final String productId;
+
+        SnapshotKey(@NonNull EstimateKey estimateKey, @Nullable String productId) {
+            this.estimateKey = estimateKey;
+            this.productId = productId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            SnapshotKey that = (SnapshotKey) o;
+            return estimateKey.equals(that.estimateKey)
+                    && (productId == null ? that.productId == null : productId.equals(that.productId));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * estimateKey.hashCode() + (productId != null ? productId.hashCode() : 0);
+        }
+    }
+
+    private static final class TimeEntry {
+
+        final int seconds;
+        final long savedAtMillis;
+
+        TimeEntry(int seconds, long savedAtMillis) {
+            this.seconds = seconds;
+            this.savedAtMillis = savedAtMillis;
+        }
+    }
+
+    private static final class PriceEntry {
+
+        @NonNull
+        final String estimate;
+        @Nullable
+        final String displayName;
+        final long savedAtMillis;
+
+        PriceEntry(@NonNull String estimate, @Nullable String displayName, long savedAtMillis) {
+            this.estimate = estimate;
+            this.displayName = displayName;
+            this.savedAtMillis = savedAtMillis;
+        }
+    }
+
+    private static final class BoundedMap<V> extends LinkedHashMap<SnapshotKey, V> {
+
+        BoundedMap() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SnapshotKey, V> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    }
+}
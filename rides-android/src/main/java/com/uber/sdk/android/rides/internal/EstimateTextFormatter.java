@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import android.content.res.Resources;
+import android.os.Handler;
+import android.os.Looper;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+
+import com.uber.sdk.android.rides.R;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats estimate strings and precomputes their text layout off the main thread, so a result landing only swaps
+ * ready-to-draw text into the button. Time strings for common minute values are cached per locale.
+ */
+public final class EstimateTextFormatter {
+
+    /**
+     * Largest minute value whose time string is cached.
+     */
+    static final int MAX_CACHED_MINUTES = 60;
+
+    private static EstimateTextFormatter instance;
+
+    @NonNull
+    private final Executor backgroundExecutor;
+    @NonNull
+    private final Executor mainExecutor;
+    @NonNull
+    private final Map<String, String[]> timeStrings = new HashMap<>();
+
+    @VisibleForTesting
+    public EstimateTextFormatter(@NonNull Executor backgroundExecutor, @NonNull Executor mainExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+        this.mainExecutor = mainExecutor;
+    }
+
+    @NonNull
+    public static synchronized EstimateTextFormatter getInstance() {
+        if (instance == null) {
+            final Handler handler = new Handler(Looper.getMainLooper());
+            instance = new EstimateTextFormatter(
+                    Executors.newSingleThreadExecutor(new ThreadFactory() {
+                        @Override
+                        public Thread newThread(@NonNull Runnable runnable) {
+                            Thread thread = new Thread(runnable, "UberSdk-EstimateText");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    }),
+                    new Executor() {
+                        @Override
+                        public void execute(@NonNull Runnable runnable) {
+                            handler.post(runnable);
+                        }
+                    });
+        }
+        return instance;
+    }
+
+    /**
+     * Formats a pickup time estimate, e.g. "3 MIN AWAY". Safe to call from any thread.
+     */
+    @NonNull
+    public String formatTime(@NonNull Resources resources, long seconds) {
+        final long minutes = TimeUnit.SECONDS.toMinutes(seconds);
+        if (minutes < 0 || minutes > MAX_CACHED_MINUTES) {
+            return resources.getString(R.string.ub__time_estimate, minutes);
+        }
+
+        final String localeTags = resources.getConfiguration().getLocales().toLanguageTags();
+        synchronized (timeStrings) {
+            String[] strings = timeStrings.get(localeTags);
+            if (strings == null) {
+                strings = new String[MAX_CACHED_MINUTES + 1];
+                timeStrings.put(localeTags, strings);
+            }
+            final int index = (int) minutes;
+            if (strings[index] == null) {
+                strings[index] = resources.getString(R.string.ub__time_estimate, minutes);
+            }
+            return strings[index];
+        }
+    }
+
+    /**
+     * Formats a price estimate, e.g. "$5-7 for uberX". Safe to call from any thread.
+     */
+    @NonNull
+    public String formatPrice(@NonNull Resources resources, @Nullable String estimate, @Nullable String displayName) {
+        return resources.getString(R.string.ub__price_estimate, estimate, displayName);
+    }
+
+    /**
+     * Sets the formatted time estimate on {@code textView} once its layout has been precomputed. Must be called
+     * from the main thread.
+     *
+     * @return a {@link Request} to cancel if the text is replaced before it has been set.
+     */
+    @NonNull
+    public Request setTimeText(@NonNull TextView textView, long seconds) {
+        return setTimeText(textView, seconds, null);
+    }
+
+    /**
+     * Like {@link #setTimeText(TextView, long)}, running {@code onApplied} on the main thread right after the text has
+     * been set.
+     */
+    @NonNull
+    public Request setTimeText(@NonNull TextView textView, final long seconds, @Nullable Runnable onApplied) {
+        return setText(textView, onApplied, new TextFactory() {
+            @NonNull
+            @Override
+            public CharSequence create(@NonNull Resources resources) {
+                return formatTime(resources, seconds);
+            }
+        });
+    }
+
+    /**
+     * Sets the formatted price estimate on {@code textView} once its layout has been precomputed. Must be called
+     * from the main thread.
+     *
+     * @return a {@link Request} to cancel if the text is replaced before it has been set.
+     */
+    @NonNull
+    public Request setPriceText(
+            @NonNull TextView textView,
+            @Nullable String estimate,
+            @Nullable String displayName) {
+        return setPriceText(textView, estimate, displayName, null);
+    }
+
+    /**
+     * Like {@link #setPriceText(TextView, String, String)}, running {@code onApplied} on the main thread right after
+     * the text has been set.
+     */
+    @NonNull
+    public Request setPriceText(
+            @NonNull TextView textView,
+            @Nullable final String estimate,
+            @Nullable final String displayName,
+            @Nullable Runnable onApplied) {
+        return setText(textView, onApplied, new TextFactory() {
+            @NonNull
+            @Override
+            public CharSequence create(@NonNull Resources resources) {
+                return formatPrice(resources, estimate, displayName);
+            }
+        });
+    }
+
+    /**
+     * Runs {@link Preparation#prepare()} on the background thread used for text layout, then hands its result to
+     * {@link Preparation#onPrepared(Object)} on the main thread. Must be called from the main thread.
+     *
+     * @return a {@link Request} to cancel if the result is no longer needed.
+     */
+    @NonNull
+    public <T> Request prepare(@NonNull final Preparation<T> preparation) {
+        final Request request = new Request();
+        backgroundExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (request.cancelled) {
+                    return;
+                }
+
+                final T result = preparation.prepare();
+                mainExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!request.cancelled) {
+                            preparation.onPrepared(result);
+                        }
+                    }
+                });
+            }
+        });
+        return request;
+    }
+
+    @NonNull
+    private Request setText(
+            @NonNull final TextView textView,
+            @Nullable final Runnable onApplied,
+            @NonNull final TextFactory textFactory) {
+        // The metrics must be read on the main thread; they are what the precomputed layout is valid for.
+        final PrecomputedTextCompat.Params params = TextViewCompat.getTextMetricsParams(textView);
+        final Resources resources = textView.getResources();
+
+        return prepare(new Preparation<PrecomputedTextCompat>() {
+            @NonNull
+            @Override
+            public PrecomputedTextCompat prepare() {
+                return PrecomputedTextCompat.create(textFactory.create(resources), params);
+            }
+
+            @Override
+            public void onPrepared(@NonNull PrecomputedTextCompat text) {
+                apply(textView, text);
+                if (onApplied != null) {
+                    onApplied.run();
+                }
+            }
+        });
+    }
+
+    private static void apply(@NonNull TextView textView, @NonNull PrecomputedTextCompat text) {
+        if (text.getParams().equals(TextViewCompat.getTextMetricsParams(textView))) {
+            TextViewCompat.setPrecomputedText(textView, text);
+        } else {
+            // The text appearance changed meanwhile, so the precomputed layout no longer applies.
+            textView.setText(text.toString());
+        }
+    }
+
+    /**
+     * Work split between the background thread and the main thread, see {@link #prepare(Preparation)}.
+     */
+    public interface Preparation<T> {
+
+        /**
+         * Formats and lays out text on the background thread. Must not touch views.
+         */
+        @NonNull
+        T prepare();
+
+        /**
+         * Applies the result on the main thread, unless the {@link Request} was cancelled.
+         */
+        void onPrepared(@NonNull T result);
+    }
+
+    /**
+     * A pending {@link #setTimeText(TextView, long)}, {@link #setPriceText(TextView, String, String)} or
+     * {@link #prepare(Preparation)} call.
+     */
+    public static final class Request {
+
+        private volatile boolean cancelled;
+
+        /**
+         * Prevents the text from being set. Must be called from the main thread.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private interface TextFactory {
+
+        @NonNull
+        CharSequence create(@NonNull Resources resources);
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.android.rides.EstimateSource;
+import com.uber.sdk.android.rides.RideEstimate;
+import com.uber.sdk.android.rides.RideEstimatesLoader;
+import com.uber.sdk.android.rides.RideParameters;
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * A single {@link RideEstimatesLoader} run. Items are grouped by distinct pickup point (time estimates) and distinct
+ * pickup and dropoff pair (price estimates), and the groups are fetched through {@link EstimateRequestCoordinator}
+ * with a bounded number of requests in flight.
+ */
+public final class EstimatesBatch implements RideEstimatesLoader.Batch {
+
+    @NonNull
+    private final RidesService ridesService;
+    @NonNull
+    private final EstimateRequestCoordinator requestCoordinator;
+    @NonNull
+    private final Clock clock;
+    private final int maxConcurrentRequests;
+    @NonNull
+    private final List<RideParameters> rideParametersList;
+    @NonNull
+    private final RideEstimatesLoader.Callback callback;
+
+    @NonNull
+    private final Queue<Group> queuedGroups = new ArrayDeque<>();
+    @NonNull
+    private final List<EstimateRequestCoordinator.Subscription> subscriptions = new ArrayList<>();
+
+    private int inFlightCount;
+    private int remainingCount;
+    private long startedAtMillis;
+    private boolean dispatching;
+    private boolean cancelled;
+
+    public EstimatesBatch(
+            @NonNull RidesService ridesService,
+            @NonNull EstimateRequestCoordinator requestCoordinator,
+            int maxConcurrentRequests,
+            @NonNull List<RideParameters> rideParametersList,
+            @NonNull RideEstimatesLoader.Callback callback) {
+        this(ridesService, requestCoordinator, Clock.SYSTEM, maxConcurrentRequests, rideParametersList, callback);
+    }
+
+    @VisibleForTesting
+    EstimatesBatch(
+            @NonNull RidesService ridesService,
+            @NonNull EstimateRequestCoordinator requestCoordinator,
+            @NonNull Clock clock,
+            int maxConcurrentRequests,
+            @NonNull List<RideParameters> rideParametersList,
+            @NonNull RideEstimatesLoader.Callback callback) {
+        this.ridesService = ridesService;
+        this.requestCoordinator = requestCoordinator;
+        this.clock = clock;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.rideParametersList = new ArrayList<>(rideParametersList);
+        this.callback = callback;
+    }
+
+    /**
+     * Groups the items and starts fetching.
+     */
+    public synchronized void start() {
+        startedAtMillis = clock.elapsedMillis();
+        remainingCount = rideParametersList.size();
+
+        final Map<EstimateKey, Group> timeGroups = new LinkedHashMap<>();
+        final Map<EstimateKey, Group> priceGroups = new LinkedHashMap<>();
+        for (int position = 0; position < rideParametersList.size(); position++) {
+            final RideParameters rideParameters = rideParametersList.get(position);
+            final Item item = new Item(position, rideParameters);
+
+            if (rideParameters.getPickupLatitude() == null || rideParameters.getPickupLongitude() == null) {
+                fail(item, new IllegalArgumentException("Pickup location is required to load estimates."));
+                continue;
+            }
+            if ((rideParameters.getDropoffLatitude() == null) != (rideParameters.getDropoffLongitude() == null)) {
+                fail(item, new IllegalArgumentException("Dropoff location requires both latitude and longitude."));
+                continue;
+            }
+
+            final float pickupLatitude = rideParameters.getPickupLatitude().floatValue();
+            final float pickupLongitude = rideParameters.getPickupLongitude().floatValue();
+            item.timeKey = EstimateKey.forPickup(pickupLatitude, pickupLongitude);
+            addToGroup(timeGroups, item.timeKey, item);
+
+            if (rideParameters.getDropoffLatitude() != null) {
+                item.priceKey = EstimateKey.forTrip(pickupLatitude, pickupLongitude,
+                        rideParameters.getDropoffLatitude().floatValue(),
+                        rideParameters.getDropoffLongitude().floatValue());
+                addToGroup(priceGroups, item.priceKey, item);
+            }
+        }
+
+        // Interleave so the first items of the list are the first to complete.
+        for (Group group : timeGroups.values()) {
+            queuedGroups.add(group);
+            for (Item item : group.items) {
+                Group priceGroup = item.priceKey != null ? priceGroups.remove(item.priceKey) : null;
+                if (priceGroup != null) {
+                    queuedGroups.add(priceGroup);
+                }
+            }
+        }
+
+        dispatch();
+        completeIfDone();
+    }
+
+    @Override
+    public synchronized void cancel() {
+        cancelled = true;
+        queuedGroups.clear();
+        for (EstimateRequestCoordinator.Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+        subscriptions.clear();
+    }
+
+    private static void addToGroup(
+            @NonNull Map<EstimateKey, Group> groups,
+            @NonNull EstimateKey key,
+            @NonNull Item item) {
+        Group group = groups.get(key);
+        if (group == null) {
+            group = new Group(key);
+            groups.put(key, group);
+        }
+        group.items.add(item);
+    }
+
+    private void dispatch() {
+        if (dispatching) {
+            return;
+        }
+
+        dispatching = true;
+        try {
+            while (!cancelled && inFlightCount < maxConcurrentRequests && !queuedGroups.isEmpty()) {
+                inFlightCount++;
+                subscriptions.add(fetch(queuedGroups.poll()));
+            }
+        } finally {
+            dispatching = false;
+        }
+    }
+
+    @NonNull
+    private EstimateRequestCoordinator.Subscription fetch(@NonNull final Group group) {
+        final EstimateKey key = group.key;
+        if (!key.hasDropoff()) {
+            return requestCoordinator.loadTimeEstimates(ridesService, key.pickupLatitude, key.pickupLongitude,
+                    new GroupCallback<TimeEstimatesResponse>(group) {
+                        @Override
+                        void onLoaded(@NonNull Item item, @NonNull TimeEstimatesResponse response) {
+                            item.timeEstimates = response;
+                        }
+                    });
+        }
+
+        return requestCoordinator.loadPriceEstimates(ridesService, key.pickupLatitude, key.pickupLongitude,
+                key.dropoffLatitude, key.dropoffLongitude, new GroupCallback<PriceEstimatesResponse>(group) {
+                    @Override
+                    void onLoaded(@NonNull Item item, @NonNull PriceEstimatesResponse response) {
+                        item.priceEstimates = response;
+                    }
+                });
+    }
+
+    private void onGroupFinished() {
+        inFlightCount--;
+        dispatch();
+        completeIfDone();
+    }
+
+    private void tryComplete(@NonNull Item item) {
+        final boolean needsPrice = item.priceKey != null;
+        if (item.done || item.timeEstimates == null || (needsPrice && item.priceEstimates == null)) {
+            return;
+        }
+
+        final String productId = item.rideParameters.getProductId();
+        final EstimateKey timeKey = item.timeKey;
+        final TimeEstimate timeEstimate = requestCoordinator.selectTimeEstimate(ridesService, timeKey.pickupLatitude,
+                timeKey.pickupLongitude, item.timeEstimates, productId);
+        final EstimateKey priceKey = item.priceKey;
+        final PriceEstimate priceEstimate = needsPrice
+                ? requestCoordinator.selectPriceEstimate(ridesService, priceKey.pickupLatitude,
+                        priceKey.pickupLongitude, priceKey.dropoffLatitude, priceKey.dropoffLongitude,
+                        item.priceEstimates, productId)
+                : null;
+        if (timeEstimate == null || (needsPrice && priceEstimate == null)) {
+            fail(item, EstimateSelector.createProductNoFoundError());
+            return;
+        }
+
+        item.done = true;
+        remainingCount--;
+        callback.onEstimateLoaded(item.position, new RideEstimate(item.rideParameters, timeEstimate, priceEstimate));
+    }
+
+    private void fail(@NonNull Item item, @NonNull ApiError apiError) {
+        if (!item.done) {
+            item.done = true;
+            remainingCount--;
+            callback.onError(item.position, apiError);
+        }
+    }
+
+    private void fail(@NonNull Item item, @NonNull Throwable throwable) {
+        if (!item.done) {
+            item.done = true;
+            remainingCount--;
+            callback.onError(item.position, throwable);
+        }
+    }
+
+    private void completeIfDone() {
+        if (remainingCount == 0 && !cancelled) {
+            // Guard against reporting twice when the last group completes synchronously from start().
+            remainingCount = -1;
+            callback.onBatchComplete(clock.elapsedMillis() - startedAtMillis);
+        }
+    }
+
+    private abstract class GroupCallback<T> implements EstimatesCallback<T> {
+
+        @NonNull
+        private final Group group;
+
+        GroupCallback(@NonNull Group group) {
+            this.group = group;
+        }
+
+        abstract void onLoaded(@NonNull Item item, @NonNull T response);
+
+        @Override
+        public void onEstimatesLoaded(@NonNull T response, @NonNull EstimateSource source) {
+            synchronized (EstimatesBatch.this) {
+                if (cancelled) {
+                    return;
+                }
+                for (Item item : group.items) {
+                    onLoaded(item, response);
+                    tryComplete(item);
+                }
+                onGroupFinished();
+            }
+        }
+
+        @Override
+        public void onError(@NonNull ApiError apiError) {
+            synchronized (EstimatesBatch.this) {
+                if (cancelled) {
+                    return;
+                }
+                for (Item item : group.items) {
+                    fail(item, apiError);
+                }
+                onGroupFinished();
+            }
+        }
+
+        @Override
+        public void onError(@NonNull Throwable throwable) {
+            synchronized (EstimatesBatch.this) {
+                if (cancelled) {
+                    return;
+                }
+                for (Item item : group.items) {
+                    fail(item, throwable);
+                }
+                onGroupFinished();
+            }
+        }
+    }
+
+    private static final class Group {
+
+        @NonNull
+        final EstimateKey key;
+        @NonNull
+        final List<Item> items = new ArrayList<>();
+
+        Group(@NonNull EstimateKey key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Item {
+
+        final int position;
+        @NonNull
+        final RideParameters rideParameters;
+        @Nullable
+        EstimateKey timeKey;
+        @Nullable
+        EstimateKey priceKey;
+        boolean done;
+        @Nullable
+        TimeEstimatesResponse timeEstimates;
+        @Nullable
+        PriceEstimatesResponse priceEstimates;
+
+        Item(int position, @NonNull RideParameters rideParameters) {
+            this.position = position;
+            this.rideParameters = rideParameters;
+        }
+    }
+}
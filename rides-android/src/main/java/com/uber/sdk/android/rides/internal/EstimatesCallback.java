@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.android.rides.EstimateSource;
+import com.uber.sdk.rides.client.error.ApiError;
+
+/**
+ * Receives the outcome of an estimate request made through {@link EstimateRequestCoordinator}.
+ *
+ * @param <T> the response type, either {@link com.uber.sdk.rides.client.model.TimeEstimatesResponse} or
+ * {@link com.uber.sdk.rides.client.model.PriceEstimatesResponse}.
+ */
+public interface EstimatesCallback<T> {
+
+    /**
+     * The full estimates response for the requested location.
+     *
+     * @param source whether {@code response} came from the cache, from joining a request already in flight or from a
+     * request sent for this caller.
+     */
+    void onEstimatesLoaded(@NonNull T response, @NonNull EstimateSource source);
+
+    /**
+     * The Rides API returned an error.
+     */
+    void onError(@NonNull ApiError apiError);
+
+    /**
+     * The request failed, very likely with an {@link java.io.IOException}.
+     */
+    void onError(@NonNull Throwable throwable);
+}
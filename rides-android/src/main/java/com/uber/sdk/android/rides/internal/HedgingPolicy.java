@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Decides when {@link EstimateRequestCoordinator} sends a second, identical estimate request because the first one is
+ * slow. The delay is either fixed or tracks the 95th percentile of recent request latencies, and hedges are limited
+ * to a percentage of the requests sent so they never add more than that share of extra load.
+ */
+public final class HedgingPolicy {
+
+    static final int LATENCY_WINDOW_SIZE = 100;
+    static final int MIN_LATENCY_SAMPLES = 20;
+    /**
+     * Cost of a hedge in credits; every request sent earns the max extra load percent in credits.
+     */
+    private static final int HEDGE_COST = 100;
+    /**
+     * Upper bound on hedges that can be sent back to back after a quiet period.
+     */
+    private static final int MAX_HEDGE_CREDITS = 10 * HEDGE_COST;
+
+    private final long delayMillis;
+    private final boolean adaptive;
+    private final int maxExtraLoadPercent;
+
+    @NonNull
+    private final long[] latencies = new long[LATENCY_WINDOW_SIZE];
+    private int latencyCount;
+    private int nextLatencyIndex;
+    private int hedgeCredits;
+    private long hedgeCount;
+
+    private HedgingPolicy(long delayMillis, boolean adaptive, int maxExtraLoadPercent) {
+        this.delayMillis = delayMillis;
+        this.adaptive = adaptive;
+        this.maxExtraLoadPercent = maxExtraLoadPercent;
+    }
+
+    /**
+     * @return how long to wait for a request before hedging it.
+     */
+    synchronized long getDelayMillis() {
+        if (!adaptive || latencyCount < MIN_LATENCY_SAMPLES) {
+            return delayMillis;
+        }
+
+        final long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(latencyCount * 0.95) - 1];
+    }
+
+    /**
+     * Records a request sent to the network, which earns a fraction of a hedge.
+     */
+    synchronized void onRequestSent() {
+        hedgeCredits = Math.min(MAX_HEDGE_CREDITS, hedgeCredits + maxExtraLoadPercent);
+    }
+
+    /**
+     * @return true if the extra load budget allows one more hedge, which is then accounted for.
+     */
+    synchronized boolean tryAcquireHedge() {
+        if (hedgeCredits < HEDGE_COST) {
+            return false;
+        }
+        hedgeCredits -= HEDGE_COST;
+        hedgeCount++;
+        return true;
+    }
+
+    synchronized void recordLatency(long latencyMillis) {
+        latencies[nextLatencyIndex] = latencyMillis;
+        nextLatencyIndex = (nextLatencyIndex + 1) % LATENCY_WINDOW_SIZE;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW_SIZE);
+    }
+
+    /**
+     * @return number of hedged requests sent so far.
+     */
+    public synchronized long getHedgeCount() {
+        return hedgeCount;
+    }
+
+    /**
+     * Builder for {@link HedgingPolicy}.
+     */
+    public static class Builder {
+
+        private long delayMillis = 500;
+        private boolean adaptive;
+        private int maxExtraLoadPercent = 5;
+
+        /**
+         * Hedges requests still running after {@code delay}.
+         *
+         * @return this instance of {@link Builder}
+         */
+        public Builder setFixedDelay(long delay, @NonNull TimeUnit unit) {
+            checkState(delay >= 0, "Delay must not be negative.");
+            this.delayMillis = unit.toMillis(delay);
+            this.adaptive = false;
+            return this;
+        }
+
+        /**
+         * Hedges requests still running after the 95th percentile of recent latencies. {@code initialDelay} is used
+         * until enough requests have completed.
+         *
+         * @return this instance of {@link Builder}
+         */
+        public Builder setAdaptiveDelay(long initialDelay, @NonNull TimeUnit unit) {
+            checkState(initialDelay >= 0, "Delay must not be negative.");
+            this.delayMillis = unit.toMillis(initialDelay);
+            this.adaptive = true;
+            return this;
+        }
+
+        /**
+         * Limits hedges to {@code maxExtraLoadPercent} of the requests sent. Defaults to 5.
+         *
+         * @return this instance of {@link Builder}
+         */
+        public Builder setMaxExtraLoadPercent(int maxExtraLoadPercent) {
+            checkState(maxExtraLoadPercent >= 0 && maxExtraLoadPercent <= 100,
+                    "Max extra load must be between 0 and 100 percent.");
+            this.maxExtraLoadPercent = maxExtraLoadPercent;
+            return this;
+        }
+
+        @NonNull
+        public HedgingPolicy build() {
+            return new HedgingPolicy(delayMillis, adaptive, maxExtraLoadPercent);
+        }
+    }
+}
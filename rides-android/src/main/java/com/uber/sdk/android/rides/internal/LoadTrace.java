@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.uber.sdk.android.rides.EstimateSource;
+import com.uber.sdk.android.rides.RideParameters;
+import com.uber.sdk.android.rides.RideRequestButtonTimingListener;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+
+import java.util.UUID;
+
+/**
+ * Reports the phases of a single {@link RideRequestButtonController} load to a
+ * {@link RideRequestButtonTimingListener}.
+ */
+final class LoadTrace {
+
+    @NonNull
+    private final RideRequestButtonTimingListener listener;
+    @NonNull
+    private final Clock clock;
+    @NonNull
+    private final String loadId = UUID.randomUUID().toString();
+    private final long startedAtMillis;
+
+    private boolean failed;
+
+    LoadTrace(
+            @NonNull RideRequestButtonTimingListener listener,
+            @NonNull Clock clock,
+            @NonNull RideParameters rideParameters) {
+        this.listener = listener;
+        this.clock = clock;
+        this.startedAtMillis = clock.elapsedMillis();
+        listener.onLoadStarted(loadId, rideParameters);
+    }
+
+    void onTimeEstimateResponse(@NonNull EstimateSource source) {
+        listener.onTimeEstimateResponse(loadId, getElapsedMillis(), source);
+    }
+
+    void onPriceEstimateResponse(@NonNull EstimateSource source) {
+        listener.onPriceEstimateResponse(loadId, getElapsedMillis(), source);
+    }
+
+    void onLoadFailed() {
+        // Time and price requests can both fail, the load only fails once.
+        if (!failed) {
+            failed = true;
+            listener.onLoadFailed(loadId, getElapsedMillis());
+        }
+    }
+
+    /**
+     * @return a view forwarding to {@code view} and reporting each estimate to the listener once {@code view} has
+     * applied its text.
+     */
+    @NonNull
+    RideRequestButtonView wrap(@NonNull final RideRequestButtonView view) {
+        return new RideRequestButtonView() {
+            @Override
+            public void showEstimate(@NonNull TimeEstimate timeEstimate) {
+                view.showEstimate(timeEstimate, createRenderCallback(null));
+            }
+
+            @Override
+            public void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull PriceEstimate priceEstimate) {
+                view.showEstimate(timeEstimate, priceEstimate, createRenderCallback(null));
+            }
+
+            @Override
+            public void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull Runnable onRendered) {
+                view.showEstimate(timeEstimate, createRenderCallback(onRendered));
+            }
+
+            @Override
+            public void showEstimate(
+                    @NonNull TimeEstimate timeEstimate,
+                    @NonNull PriceEstimate priceEstimate,
+                    @NonNull Runnable onRendered) {
+                view.showEstimate(timeEstimate, priceEstimate, createRenderCallback(onRendered));
+            }
+
+            @Override
+            public void showDefaultView() {
+                view.showDefaultView();
+            }
+
+            @Override
+            public void showStaleEstimate(@NonNull EstimateSnapshot snapshot) {
+                view.showStaleEstimate(snapshot);
+            }
+        };
+    }
+
+    @NonNull
+    private Runnable createRenderCallback(@Nullable final Runnable onRendered) {
+        final long renderStartedAtMillis = clock.elapsedMillis();
+        return new Runnable() {
+            @Override
+            public void run() {
+                final long now = clock.elapsedMillis();
+                listener.onRendered(loadId, now - startedAtMillis, now - renderStartedAtMillis);
+                if (onRendered != null) {
+                    onRendered.run();
+                }
+            }
+        };
+    }
+
+    private long getElapsedMillis() {
+        return clock.elapsedMillis() - startedAtMillis;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.rides.client.error.ErrorParser;
+import com.uber.sdk.rides.client.model.Product;
+import com.uber.sdk.rides.client.model.ProductsResponse;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Process-wide cache of the products available per coarse location cell, roughly a kilometer wide. It lets
+ * {@link RideRequestButtonController} reject a product id unavailable at the pickup location without sending estimate
+ * requests. Until a cell has been loaded, availability is unknown and estimates are requested as usual. Cells are
+ * scoped like the {@link EstimateCache}, see {@link EstimateRequestCoordinator#getScope(RidesService)}, so the products
+ * loaded for one session are never used for another.
+ */
+public final class ProductCatalog {
+
+    public static final long DEFAULT_TIME_TO_LIVE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    static final double CELL_SIZE_DEGREES = 0.01;
+    static final int MAX_CELLS = 32;
+
+    private static final ProductCatalog INSTANCE = new ProductCatalog(Clock.SYSTEM, RateLimiter.getInstance());
+
+    @NonNull
+    private final Clock clock;
+    @Nullable
+    private final RateLimiter rateLimiter;
+    @NonNull
+    private final Map<Cell, Entry> cells = new LinkedHashMap<Cell, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Cell, Entry> eldest) {
+            return size() > MAX_CELLS;
+        }
+    };
+    @NonNull
+    private final Set<Cell> loadingCells = new HashSet<>();
+
+    private long timeToLiveMillis = DEFAULT_TIME_TO_LIVE_MILLIS;
+
+    @VisibleForTesting
+    ProductCatalog(@NonNull Clock clock, @Nullable RateLimiter rateLimiter) {
+        this.clock = clock;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @NonNull
+    public static ProductCatalog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets how long the products of a cell are trusted after they were loaded.
+     */
+    public synchronized void setTimeToLive(long duration, @NonNull TimeUnit unit) {
+        checkState(duration >= 0, "Time to live must not be negative.");
+        this.timeToLiveMillis = unit.toMillis(duration);
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+    }
+
+    /**
+     * @return whether {@code productId} is available at the location, or null if the products of its cell are not
+     * known.
+     */
+    @Nullable
+    synchronized Boolean isProductAvailable(
+            @NonNull Object scope,
+            double latitude,
+            double longitude,
+            @NonNull String productId) {
+        final Cell cell = new Cell(scope, latitude, longitude);
+        final Entry entry = cells.get(cell);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.elapsedMillis() - entry.createdAtMillis > timeToLiveMillis) {
+            cells.remove(cell);
+            return null;
+        }
+        return entry.productIds.contains(productId);
+    }
+
+    /**
+     * Loads the products of the cell containing the location in the background, unless already known or loading.
+     */
+    void prefetch(@NonNull RidesService ridesService, @NonNull Object scope, double latitude, double longitude) {
+        final Cell cell = new Cell(scope, latitude, longitude);
+        synchronized (this) {
+            if (cells.containsKey(cell) || loadingCells.contains(cell)) {
+                return;
+            }
+            if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+                return;
+            }
+            loadingCells.add(cell);
+        }
+
+        ridesService.getProducts((float) latitude, (float) longitude).enqueue(new Callback<ProductsResponse>() {
+            @Override
+            public void onResponse(Call<ProductsResponse> call, Response<ProductsResponse> response) {
+                if (rateLimiter != null) {
+                    rateLimiter.onResponse(response);
+                }
+                final Set<String> productIds = new HashSet<>();
+                final boolean success = ErrorParser.parseError(response) == null
+                        && response.body() != null
+                        && response.body().getProducts() != null;
+                if (success) {
+                    for (Product product : response.body().getProducts()) {
+                        productIds.add(product.getProductId());
+                    }
+                }
+
+                synchronized (ProductCatalog.this) {
+                    loadingCells.remove(cell);
+                    if (success) {
+                        cells.put(cell, new Entry(productIds, clock.elapsedMillis()));
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Call<ProductsResponse> call, Throwable throwable) {
+                synchronized (ProductCatalog.this) {
+                    loadingCells.remove(cell);
+                }
+            }
+        });
+    }
+
+    @VisibleForTesting
+    synchronized void putProducts(
+            @NonNull Object scope,
+            double latitude,
+            double longitude,
+            @NonNull Collection<String> productIds) {
+        cells.put(new Cell(scope, latitude, longitude), new Entry(new HashSet<>(productIds), clock.elapsedMillis()));
+    }
+
+    private static final class Cell {
+
+        @NonNull
+        final Object scope;
+        final long index;
+
+        Cell(@NonNull Object scope, double latitude, double longitude) {
+            final long latitudeCell = (long) Math.floor(latitude / CELL_SIZE_DEGREES);
+            final long longitudeCell = (long) Math.floor(longitude / CELL_SIZE_DEGREES);
+            this.scope = scope;
+            this.index = (latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Cell that = (Cell) o;
+            return index == that.index && scope.equals(that.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * scope.hashCode() + (int) (index ^ (index >>> 32));
+        }
+    }
+
+    private static final class Entry {
+
+        @NonNull
+        final Set<String> productIds;
+        final long createdAtMillis;
+
+        Entry(@NonNull Set<String> productIds, long createdAtMillis) {
+            this.productIds = productIds;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.uber.sdk.android.rides.ProductEstimate;
+import com.uber.sdk.android.rides.RideEstimatesLoader;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Joins the time and price estimates responses of a location into one {@link ProductEstimate} per product.
+ */
+public final class ProductMatrix {
+
+    private ProductMatrix() {
+    }
+
+    /**
+     * @return every product found in either response, sorted by {@code sortOrder}. Products missing the sort value
+     * come last, in response order.
+     */
+    @NonNull
+    public static List<ProductEstimate> join(
+            @NonNull TimeEstimatesResponse timeEstimates,
+            @Nullable PriceEstimatesResponse priceEstimates,
+            @NonNull RideEstimatesLoader.SortOrder sortOrder) {
+        final Map<String, Row> rows = new LinkedHashMap<>();
+        if (timeEstimates.getTimes() != null) {
+            for (TimeEstimate timeEstimate : timeEstimates.getTimes()) {
+                final Row row = getRow(rows, timeEstimate.getProductId(), timeEstimate.getDisplayName());
+                if (row != null && row.timeEstimate == null) {
+                    row.timeEstimate = timeEstimate;
+                }
+            }
+        }
+        if (priceEstimates != null && priceEstimates.getPrices() != null) {
+            for (PriceEstimate priceEstimate : priceEstimates.getPrices()) {
+                final Row row = getRow(rows, priceEstimate.getProductId(), priceEstimate.getDisplayName());
+                if (row != null && row.priceEstimate == null) {
+                    row.priceEstimate = priceEstimate;
+                }
+            }
+        }
+
+        final List<ProductEstimate> productEstimates = new ArrayList<>(rows.size());
+        for (Map.Entry<String, Row> entry : rows.entrySet()) {
+            final Row row = entry.getValue();
+            productEstimates.add(new ProductEstimate(entry.getKey(), row.displayName, row.timeEstimate,
+                    row.priceEstimate));
+        }
+        Collections.sort(productEstimates, sortOrder == RideEstimatesLoader.SortOrder.LOW_PRICE
+                ? BY_LOW_PRICE
+                : BY_ETA);
+        return productEstimates;
+    }
+
+    @Nullable
+    private static Row getRow(
+            @NonNull Map<String, Row> rows,
+            @Nullable String productId,
+            @Nullable String displayName) {
+        if (productId == null) {
+            return null;
+        }
+
+        Row row = rows.get(productId);
+        if (row == null) {
+            row = new Row(displayName);
+            rows.put(productId, row);
+        }
+        return row;
+    }
+
+    @Nullable
+    private static Integer getEta(@NonNull ProductEstimate productEstimate) {
+        final TimeEstimate timeEstimate = productEstimate.getTimeEstimate();
+        return timeEstimate != null ? timeEstimate.getEstimate() : null;
+    }
+
+    @Nullable
+    private static Integer getLowPrice(@NonNull ProductEstimate productEstimate) {
+        final PriceEstimate priceEstimate = productEstimate.getPriceEstimate();
+        return priceEstimate != null ? priceEstimate.getLowEstimate() : null;
+    }
+
+    private static int compareNullsLast(@Nullable Integer first, @Nullable Integer second) {
+        if (first == null || second == null) {
+            return first == null ? (second == null ? 0 : 1) : -1;
+        }
+        return first.compareTo(second);
+    }
+
+    private static final Comparator<ProductEstimate> BY_ETA = new Comparator<ProductEstimate>() {
+        @Override
+        public int compare(ProductEstimate first, ProductEstimate second) {
+            final int result = compareNullsLast(getEta(first), getEta(second));
+            return result != 0 ? result : compareNullsLast(getLowPrice(first), getLowPrice(second));
+        }
+    };
+
+    private static final Comparator<ProductEstimate> BY_LOW_PRICE = new Comparator<ProductEstimate>() {
+        @Override
+        public int compare(ProductEstimate first, ProductEstimate second) {
+            final int result = compareNullsLast(getLowPrice(first), getLowPrice(second));
+            return result != 0 ? result : compareNullsLast(getEta(first), getEta(second));
+        }
+    };
+
+    private static final class Row {
+
+        @Nullable
+        final String displayName;
+        @Nullable
+        TimeEstimate timeEstimate;
+        @Nullable
+        PriceEstimate priceEstimate;
+
+        Row(@Nullable String displayName) {
+            this.displayName = displayName;
+        }
+    }
+}
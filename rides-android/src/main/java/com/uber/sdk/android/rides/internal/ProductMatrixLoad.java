@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.uber.sdk.android.rides.EstimateSource;
+import com.uber.sdk.android.rides.RideEstimatesLoader;
+import com.uber.sdk.android.rides.RideParameters;
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Loads the time and, with a dropoff, price estimates of one location through {@link EstimateRequestCoordinator} and
+ * delivers them as a {@link ProductMatrix}.
+ */
+public final class ProductMatrixLoad implements RideEstimatesLoader.Batch {
+
+    @NonNull
+    private final RidesService ridesService;
+    @NonNull
+    private final EstimateRequestCoordinator requestCoordinator;
+    @NonNull
+    private final RideParameters rideParameters;
+    @NonNull
+    private final RideEstimatesLoader.SortOrder sortOrder;
+    @NonNull
+    private final RideEstimatesLoader.ProductsCallback callback;
+
+    @Nullable
+    private EstimateRequestCoordinator.Subscription timeSubscription;
+    @Nullable
+    private EstimateRequestCoordinator.Subscription priceSubscription;
+    @Nullable
+    private TimeEstimatesResponse timeEstimates;
+    @Nullable
+    private PriceEstimatesResponse priceEstimates;
+    private boolean done;
+
+    public ProductMatrixLoad(
+            @NonNull RidesService ridesService,
+            @NonNull EstimateRequestCoordinator requestCoordinator,
+            @NonNull RideParameters rideParameters,
+            @NonNull RideEstimatesLoader.SortOrder sortOrder,
+            @NonNull RideEstimatesLoader.ProductsCallback callback) {
+        checkState(rideParameters.getPickupLatitude() != null && rideParameters.getPickupLongitude() != null,
+                "Pickup location is required to load estimates.");
+        checkState((rideParameters.getDropoffLatitude() == null) == (rideParameters.getDropoffLongitude() == null),
+                "Dropoff location requires both latitude and longitude.");
+        this.ridesService = ridesService;
+        this.requestCoordinator = requestCoordinator;
+        this.rideParameters = rideParameters;
+        this.sortOrder = sortOrder;
+        this.callback = callback;
+    }
+
+    /**
+     * Starts both requests; results may be delivered synchronously when cached.
+     */
+    public synchronized void start() {
+        final float pickupLatitude = rideParameters.getPickupLatitude().floatValue();
+        final float pickupLongitude = rideParameters.getPickupLongitude().floatValue();
+
+        timeSubscription = requestCoordinator.loadTimeEstimates(ridesService, pickupLatitude, pickupLongitude,
+                new MatrixCallback<TimeEstimatesResponse>() {
+                    @Override
+                    void onLoaded(@NonNull TimeEstimatesResponse response) {
+                        timeEstimates = response;
+                    }
+                });
+
+        if (rideParameters.getDropoffLatitude() != null && !done) {
+            priceSubscription = requestCoordinator.loadPriceEstimates(ridesService, pickupLatitude, pickupLongitude,
+                    rideParameters.getDropoffLatitude().floatValue(),
+                    rideParameters.getDropoffLongitude().floatValue(),
+                    new MatrixCallback<PriceEstimatesResponse>() {
+                        @Override
+                        void onLoaded(@NonNull PriceEstimatesResponse response) {
+                            priceEstimates = response;
+                        }
+                    });
+        }
+    }
+
+    @Override
+    public synchronized void cancel() {
+        done = true;
+        if (timeSubscription != null) {
+            timeSubscription.cancel();
+        }
+        if (priceSubscription != null) {
+            priceSubscription.cancel();
+        }
+    }
+
+    private void tryComplete() {
+        final boolean needsPrice = rideParameters.getDropoffLatitude() != null;
+        if (done || timeEstimates == null || (needsPrice && priceEstimates == null)) {
+            return;
+        }
+
+        done = true;
+        callback.onProductsLoaded(ProductMatrix.join(timeEstimates, priceEstimates, sortOrder));
+    }
+
+    private abstract class MatrixCallback<T> implements EstimatesCallback<T> {
+
+        abstract void onLoaded(@NonNull T response);
+
+        @Override
+        public void onEstimatesLoaded(@NonNull T response, @NonNull EstimateSource source) {
+            synchronized (ProductMatrixLoad.this) {
+                if (!done) {
+                    onLoaded(response);
+                    tryComplete();
+                }
+            }
+        }
+
+        @Override
+        public void onError(@NonNull ApiError apiError) {
+            synchronized (ProductMatrixLoad.this) {
+                if (!done) {
+                    cancel();
+                    callback.onError(apiError);
+                }
+            }
+        }
+
+        @Override
+        public void onError(@NonNull Throwable throwable) {
+            synchronized (ProductMatrixLoad.this) {
+                if (!done) {
+                    cancel();
+                    callback.onError(throwable);
+                }
+            }
+        }
+    }
+}
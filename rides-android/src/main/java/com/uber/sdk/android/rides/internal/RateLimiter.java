@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.error.ClientError;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Response;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Process-wide request budget in front of the Rides API calls made by the SDK. Once the API answers 429 every request
+ * is shed until its {@code Retry-After} has passed, so the SDK keeps serving cached or default views instead of
+ * extending the penalty. Apps which want to stay under a known quota can also opt in to a client side token bucket
+ * with {@link #setRate(int, int)}; requests beyond it are delayed until a token is available, never failed.
+ */
+public final class RateLimiter {
+
+    public static final long DEFAULT_RETRY_AFTER_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private static final RateLimiter INSTANCE = new RateLimiter(Clock.SYSTEM);
+
+    @NonNull
+    private final Clock clock;
+
+    private int maxBurst;
+    private int requestsPerSecond;
+    private double tokens;
+    private long refilledAtMillis;
+    private long penaltyEndMillis;
+    private long shedCount;
+
+    @VisibleForTesting
+    RateLimiter(@NonNull Clock clock) {
+        this.clock = clock;
+        this.refilledAtMillis = clock.elapsedMillis();
+    }
+
+    /**
+     * @return the limiter shared by every SDK component calling the Rides API.
+     */
+    @NonNull
+    public static RateLimiter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Limits requests to a sustained rate, allowing {@code maxBurst} of them back to back after a quiet period.
+     * Requests beyond the rate wait for a token. There is no client side rate by default.
+     */
+    public synchronized void setRate(int maxBurst, int requestsPerSecond) {
+        checkState(maxBurst > 0, "Max burst must be positive.");
+        checkState(requestsPerSecond > 0, "Requests per second must be positive.");
+        refill();
+        this.tokens = isRateEnabled() ? Math.min(tokens, maxBurst) : maxBurst;
+        this.maxBurst = maxBurst;
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    /**
+     * Removes the client side rate set by {@link #setRate(int, int)}. Server 429 responses are still honoured.
+     */
+    public synchronized void clearRate() {
+        maxBurst = 0;
+        requestsPerSecond = 0;
+        tokens = 0;
+    }
+
+    /**
+     * @return number of requests shed during a 429 penalty since creation or the last {@link #resetStats()}.
+     */
+    public synchronized long getShedCount() {
+        return shedCount;
+    }
+
+    /**
+     * @return milliseconds left before requests are allowed again after a 429, or 0 if not rate limited.
+     */
+    public synchronized long getPenaltyRemainingMillis() {
+        return Math.max(0, penaltyEndMillis - clock.elapsedMillis());
+    }
+
+    public synchronized void resetStats() {
+        shedCount = 0;
+    }
+
+    /**
+     * Reserves a token for a request which must be sent.
+     *
+     * @return milliseconds to wait before sending the request, 0 to send it now, or -1 if the API asked to back off
+     * with a 429, in which case the request must not be sent and is counted as shed.
+     */
+    synchronized long reserve() {
+        if (clock.elapsedMillis() < penaltyEndMillis) {
+            shedCount++;
+            return -1;
+        }
+        if (!isRateEnabled()) {
+            return 0;
+        }
+        refill();
+        tokens--;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * 1000 / requestsPerSecond);
+    }
+
+    /**
+     * Takes a token for an optional request, such as a hedge or a prefetch, only if one is available right away.
+     *
+     * @return false if the request should be skipped.
+     */
+    synchronized boolean tryAcquire() {
+        if (clock.elapsedMillis() < penaltyEndMillis) {
+            return false;
+        }
+        if (!isRateEnabled()) {
+            return true;
+        }
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Starts a penalty window if {@code response} is a 429, honouring its {@code Retry-After} header.
+     */
+    synchronized void onResponse(@NonNull Response<?> response) {
+        if (response.code() != HTTP_TOO_MANY_REQUESTS) {
+            return;
+        }
+        final long retryAfterMillis = getRetryAfterMillis(response);
+        penaltyEndMillis = Math.max(penaltyEndMillis, clock.elapsedMillis() + retryAfterMillis);
+        tokens = Math.min(tokens, 0);
+    }
+
+    /**
+     * @return the error delivered in place of a shed request's response.
+     */
+    @NonNull
+    static ApiError createRateLimitedError() {
+        return new ApiError(null, Arrays.asList(new ClientError(null, HTTP_TOO_MANY_REQUESTS,
+                "Request shed until the API's Retry-After has passed.")));
+    }
+
+    private boolean isRateEnabled() {
+        return requestsPerSecond > 0;
+    }
+
+    private void refill() {
+        final long now = clock.elapsedMillis();
+        if (isRateEnabled()) {
+            tokens = Math.min(maxBurst, tokens + (now - refilledAtMillis) * requestsPerSecond / 1000.0);
+        }
+        refilledAtMillis = now;
+    }
+
+    private static long getRetryAfterMillis(@NonNull Response<?> response) {
+        final String retryAfter = response.headers().get(RETRY_AFTER_HEADER);
+        if (retryAfter == null) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            // Not delta seconds, expect an HTTP date.
+        }
+
+        final Date retryAt = response.headers().getDate(RETRY_AFTER_HEADER);
+        return retryAt != null
+                ? Math.max(0, retryAt.getTime() - System.currentTimeMillis())
+                : DEFAULT_RETRY_AFTER_MILLIS;
+    }
+}
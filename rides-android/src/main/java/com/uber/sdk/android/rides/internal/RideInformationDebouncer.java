@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.uber.sdk.android.rides.RideParameters;
+
+/**
+ * Coalesces bursts of {@link RideRequestButtonController#loadRideInformation(RideParameters)} calls, such as one per
+ * camera move while a map is dragged. The latest {@link RideParameters} wins: it is loaded once no newer call arrived
+ * for the quiet period, or at the latest once the max wait has elapsed since the first call of the burst. Calls that
+ * move the pickup and dropoff less than the minimum distance from the last loaded ones are dropped.
+ */
+final class RideInformationDebouncer {
+
+    interface Target {
+
+        void load(@NonNull RideParameters rideParameters);
+    }
+
+    @NonNull
+    private final Target target;
+    @NonNull
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    @NonNull
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    private long quietPeriodMillis;
+    private long maxWaitMillis;
+    private float minDistanceMeters;
+
+    @Nullable
+    private RideParameters pendingParameters;
+    @Nullable
+    private RideParameters lastLoadedParameters;
+    private long burstStartedAtMillis;
+
+    RideInformationDebouncer(@NonNull Target target) {
+        this.target = target;
+    }
+
+    void setDebounce(long quietPeriodMillis, long maxWaitMillis) {
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    void setMinDistance(float minDistanceMeters) {
+        this.minDistanceMeters = minDistanceMeters;
+    }
+
+    void submit(@NonNull RideParameters rideParameters) {
+        if (lastLoadedParameters != null && isWithinMinDistance(lastLoadedParameters, rideParameters)) {
+            // Latest wins, and the latest does not need a new fetch.
+            cancel();
+            return;
+        }
+
+        if (quietPeriodMillis <= 0) {
+            load(rideParameters);
+            return;
+        }
+
+        final long now = SystemClock.uptimeMillis();
+        if (pendingParameters == null) {
+            burstStartedAtMillis = now;
+        }
+        pendingParameters = rideParameters;
+
+        long delayMillis = quietPeriodMillis;
+        if (maxWaitMillis > 0) {
+            delayMillis = Math.min(delayMillis, Math.max(0, burstStartedAtMillis + maxWaitMillis - now));
+        }
+        handler.removeCallbacks(flushRunnable);
+        handler.postDelayed(flushRunnable, delayMillis);
+    }
+
+    /**
+     * Forgets the last loaded {@link RideParameters} so the next call fetches again, e.g. after a failure.
+     */
+    void invalidate() {
+        lastLoadedParameters = null;
+    }
+
+    void cancel() {
+        handler.removeCallbacks(flushRunnable);
+        pendingParameters = null;
+    }
+
+    private void flush() {
+        final RideParameters rideParameters = pendingParameters;
+        pendingParameters = null;
+        if (rideParameters != null) {
+            load(rideParameters);
+        }
+    }
+
+    private void load(@NonNull RideParameters rideParameters) {
+        lastLoadedParameters = rideParameters;
+        target.load(rideParameters);
+    }
+
+    private boolean isWithinMinDistance(@NonNull RideParameters previous, @NonNull RideParameters current) {
+        if (minDistanceMeters <= 0 || !equals(previous.getProductId(), current.getProductId())) {
+            return false;
+        }
+
+        return isWithinMinDistance(previous.getPickupLatitude(), previous.getPickupLongitude(),
+                current.getPickupLatitude(), current.getPickupLongitude())
+                && isWithinMinDistance(previous.getDropoffLatitude(), previous.getDropoffLongitude(),
+                current.getDropoffLatitude(), current.getDropoffLongitude());
+    }
+
+    private boolean isWithinMinDistance(
+            @Nullable Double previousLatitude,
+            @Nullable Double previousLongitude,
+            @Nullable Double currentLatitude,
+            @Nullable Double currentLongitude) {
+        if (previousLatitude == null || currentLatitude == null) {
+            return previousLatitude == null && currentLatitude == null;
+        }
+
+        final float[] results = new float[1];
+        Location.distanceBetween(previousLatitude, previousLongitude, currentLatitude, currentLongitude, results);
+        return results[0] < minDistanceMeters;
+    }
+
+    private static boolean equals(@Nullable Object a, @Nullable Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
@@ -26,51 +26,94 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
+import com.uber.sdk.android.rides.EstimateSource;
 import com.uber.sdk.android.rides.RideParameters;
 import com.uber.sdk.android.rides.RideRequestButtonCallback;
+import com.uber.sdk.android.rides.RideRequestButtonTimingListener;
 import com.uber.sdk.core.client.Session;
-import com.uber.sdk.rides.client.UberRidesApi;
 import com.uber.sdk.rides.client.error.ApiError;
-import com.uber.sdk.rides.client.error.ClientError;
-import com.uber.sdk.rides.client.error.ErrorParser;
 import com.uber.sdk.rides.client.model.PriceEstimate;
 import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
 import com.uber.sdk.rides.client.model.TimeEstimate;
 import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
 import com.uber.sdk.rides.client.services.RidesService;
 
-import java.util.Arrays;
-import java.util.List;
-
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
+import java.util.concurrent.TimeUnit;
 
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
 import static com.uber.sdk.core.client.utils.Preconditions.checkNotNull;
 
 
 public class RideRequestButtonController {
 
+    @Nullable
+    private final RidesServiceRegistry ridesServiceRegistry;
+    /**
+     * Null while pooled, so an idle controller does not keep the HTTP stack of its {@link Session} alive.
+     */
+    @Nullable
+    private RidesService ridesService;
     @NonNull
-    private final RidesService ridesService;
+    private final EstimateRequestCoordinator requestCoordinator;
+    @NonNull
+    private final ProductCatalog productCatalog = ProductCatalog.getInstance();
 
     @VisibleForTesting
     @NonNull
     TimeDelegate pendingDelegate;
 
-    private Call<PriceEstimatesResponse> priceEstimateCall;
-    private Call<TimeEstimatesResponse> timeEstimateCall;
+    private EstimateRequestCoordinator.Subscription priceEstimateSubscription;
+    private EstimateRequestCoordinator.Subscription timeEstimateSubscription;
     private RideRequestButtonView rideRequestButtonView;
     private RideRequestButtonCallback rideRequestButtonCallback;
+    @Nullable
+    private Session session;
+    private boolean progressiveLoading;
+    @Nullable
+    private RideInformationDebouncer debouncer;
+    @Nullable
+    private EstimateRefreshScheduler refreshScheduler;
+    @Nullable
+    private RideParameters loadedRideParameters;
+    @Nullable
+    private EstimateSnapshotStore snapshotStore;
+    @Nullable
+    private RideRequestButtonTimingListener timingListener;
+    @Nullable
+    private EstimateLoadScheduler loadScheduler;
+    @Nullable
+    private EstimateLoadScheduler.Task loadTask;
+    private int pendingRequestCount;
+    /**
+     * Estimates of the current load still to arrive before it counts as a success for the refresh backoff, 0 once
+     * it succeeded or failed.
+     */
+    private int pendingEstimateCount;
+    /**
+     * Whether the view shows estimates loaded by this controller, rather than the default view or a snapshot.
+     */
+    private boolean showingEstimates;
+    private boolean visible = true;
+
+    @VisibleForTesting
+    RideRequestButtonController(
+            @NonNull RideRequestButtonView rideRequestButtonView,
+            @NonNull RidesService ridesService,
+            @Nullable RideRequestButtonCallback callback) {
+        this(rideRequestButtonView, ridesService, EstimateRequestCoordinator.getInstance(), callback);
+    }
 
     @VisibleForTesting
     RideRequestButtonController(
             @NonNull RideRequestButtonView rideRequestButtonView,
             @NonNull RidesService ridesService,
+            @NonNull EstimateRequestCoordinator requestCoordinator,
             @Nullable RideRequestButtonCallback callback) {
         this.rideRequestButtonView = rideRequestButtonView;
         this.rideRequestButtonCallback = callback;
+        this.ridesServiceRegistry = null;
         this.ridesService = ridesService;
+        this.requestCoordinator = requestCoordinator;
         this.pendingDelegate = new TimeDelegate(rideRequestButtonView, callback);
     }
 
@@ -78,14 +121,112 @@ public class RideRequestButtonController {
             @NonNull RideRequestButtonView rideRequestButtonView,
             @NonNull Session session,
             @Nullable RideRequestButtonCallback callback) {
+        this(rideRequestButtonView, session, RidesServiceRegistry.getInstance(), callback);
+    }
+
+    @VisibleForTesting
+    RideRequestButtonController(
+            @NonNull RideRequestButtonView rideRequestButtonView,
+            @NonNull Session session,
+            @NonNull RidesServiceRegistry ridesServiceRegistry,
+            @Nullable RideRequestButtonCallback callback) {
         this.rideRequestButtonView = rideRequestButtonView;
         this.rideRequestButtonCallback = callback;
-        this.ridesService = UberRidesApi.with(session)
-                .build()
-                .createService();
+        this.session = session;
+        this.ridesServiceRegistry = ridesServiceRegistry;
+        this.ridesService = ridesServiceRegistry.acquire(session);
+        this.requestCoordinator = EstimateRequestCoordinator.getInstance();
+        this.loadScheduler = EstimateLoadScheduler.getInstance();
         this.pendingDelegate = new TimeDelegate(rideRequestButtonView, callback);
     }
 
+    /**
+     * Sets whether the Time Estimate is shown as soon as it arrives, before the Price Estimate. Applies to the next
+     * {@link #loadRideInformation(RideParameters)}.
+     */
+    public void setProgressiveLoading(boolean progressiveLoading) {
+        this.progressiveLoading = progressiveLoading;
+    }
+
+    /**
+     * Debounces {@link #loadRideInformation(RideParameters)}: the latest {@link RideParameters} is loaded once no newer
+     * call arrived for {@code quietPeriod}, and no later than {@code maxWait} after the first call of a burst.
+     * A {@code quietPeriod} of 0 disables debouncing, a {@code maxWait} of 0 disables the upper bound.
+     */
+    public void setLoadDebounce(long quietPeriod, long maxWait, @NonNull TimeUnit unit) {
+        checkState(quietPeriod >= 0 && maxWait >= 0, "Debounce durations must not be negative.");
+        getOrCreateDebouncer().setDebounce(unit.toMillis(quietPeriod), unit.toMillis(maxWait));
+    }
+
+    /**
+     * Skips {@link #loadRideInformation(RideParameters)} calls whose pickup and dropoff are both within
+     * {@code minDistanceMeters} of the last loaded ones, for the same product. 0 disables the check.
+     */
+    public void setMinReloadDistance(float minDistanceMeters) {
+        checkState(minDistanceMeters >= 0, "Minimum reload distance must not be negative.");
+        getOrCreateDebouncer().setMinDistance(minDistanceMeters);
+    }
+
+    /**
+     * Reloads the last {@link RideParameters} every {@code interval} while visible, skipping the network while the
+     * cached estimates are younger than {@code interval}. An interval of 0 disables refreshing.
+     */
+    public void setAutoRefreshInterval(long interval, @NonNull TimeUnit unit) {
+        checkState(interval >= 0, "Refresh interval must not be negative.");
+        if (refreshScheduler == null) {
+            if (interval == 0) {
+                return;
+            }
+            refreshScheduler = new EstimateRefreshScheduler(new Runnable() {
+                @Override
+                public void run() {
+                    refresh();
+                }
+            });
+        }
+        refreshScheduler.setInterval(unit.toMillis(interval));
+        if (loadedRideParameters != null) {
+            refreshScheduler.onLoadSucceeded();
+        }
+    }
+
+    /**
+     * Pauses automatic refreshes while the button is not visible, and moves a load still waiting for the
+     * {@link EstimateLoadScheduler} behind the loads of visible buttons.
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        if (refreshScheduler != null) {
+            refreshScheduler.setVisible(visible);
+        }
+        if (loadTask != null) {
+            loadTask.setVisible(visible);
+        }
+    }
+
+    /**
+     * Sets the scheduler which orders the network loads of buttons by visibility. Buttons created with a
+     * {@link Session} use the shared scheduler; null starts loads immediately.
+     */
+    public void setLoadScheduler(@Nullable EstimateLoadScheduler loadScheduler) {
+        this.loadScheduler = loadScheduler;
+    }
+
+    /**
+     * Sets the store consulted to render the last-known estimate, flagged as stale, while fresh estimates load.
+     * Loaded estimates are saved back to it. Null disables warm start.
+     */
+    public void setSnapshotStore(@Nullable EstimateSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    /**
+     * Sets a listener notified of the timing of each phase of every load. Null disables timing.
+     */
+    public void setTimingListener(@Nullable RideRequestButtonTimingListener timingListener) {
+        this.timingListener = timingListener;
+    }
+
     public void loadRideInformation(@NonNull RideParameters rideParameters) {
         if (rideParameters.getPickupLatitude() != null) {
             checkNotNull(rideParameters.getPickupLongitude(), "Pickup point latitude is set in " +
@@ -107,74 +248,257 @@ public class RideRequestButtonController {
                     " RideParameters but not the latitude.");
         }
 
+        if (debouncer != null) {
+            debouncer.submit(rideParameters);
+        } else {
+            load(rideParameters);
+        }
+    }
+
+    @NonNull
+    private RideInformationDebouncer getOrCreateDebouncer() {
+        if (debouncer == null) {
+            debouncer = new RideInformationDebouncer(new RideInformationDebouncer.Target() {
+                @Override
+                public void load(@NonNull RideParameters rideParameters) {
+                    RideRequestButtonController.this.load(rideParameters);
+                }
+            });
+        }
+        return debouncer;
+    }
+
+    private void refresh() {
+        final RideParameters rideParameters = loadedRideParameters;
+        if (rideParameters == null || refreshScheduler == null || rideParameters.getPickupLatitude() == null) {
+            return;
+        }
+
+        final RidesService ridesService = getRidesService();
+        final EstimateCache cache = requestCoordinator.getEstimateCache();
+        final EstimateKey timeKey = requestCoordinator.scope(ridesService, createTimeKey(rideParameters));
+        final EstimateKey tripKey = createPriceKey(rideParameters);
+        final EstimateKey priceKey = tripKey != null ? requestCoordinator.scope(ridesService, tripKey) : null;
+
+        long ageMillis = cache.getTimeEstimatesAgeMillis(timeKey);
+        if (priceKey != null && ageMillis >= 0) {
+            final long priceAgeMillis = cache.getPriceEstimatesAgeMillis(priceKey);
+            ageMillis = priceAgeMillis >= 0 ? Math.max(ageMillis, priceAgeMillis) : -1;
+        }
+
+        if (ageMillis < 0 || ageMillis >= refreshScheduler.getIntervalMillis()) {
+            cache.removeTimeEstimates(timeKey);
+            if (priceKey != null) {
+                cache.removePriceEstimates(priceKey);
+            }
+        }
+        // Estimates another consumer refreshed recently are shown from the cache, without a network call.
+        load(rideParameters);
+    }
+
+    private void load(@NonNull final RideParameters rideParameters) {
         cancelAllPending();
+        loadedRideParameters = rideParameters;
 
         if (rideParameters.getPickupLatitude() != null) {
-            if (rideParameters.getDropoffLatitude() != null) {
-                TimePriceDelegate pendingDelegate = new TimePriceDelegate(rideRequestButtonView, rideRequestButtonCallback);
-
-                loadPriceEstimate(
-                        rideParameters.getPickupLatitude().floatValue(),
-                        rideParameters.getPickupLongitude().floatValue(),
-                        rideParameters.getDropoffLatitude().floatValue(),
-                        rideParameters.getDropoffLongitude().floatValue(),
-                        rideParameters.getProductId(),
-                        pendingDelegate);
-
-                this.pendingDelegate = pendingDelegate;
+            pendingEstimateCount = rideParameters.getDropoffLatitude() != null ? 2 : 1;
+            showSnapshot(rideParameters);
+
+            final LoadTrace trace = timingListener != null
+                    ? new LoadTrace(timingListener, Clock.SYSTEM, rideParameters)
+                    : null;
+            final RideRequestButtonView view = trace != null && rideRequestButtonView != null
+                    ? trace.wrap(rideRequestButtonView)
+                    : rideRequestButtonView;
+
+            if (!checkProductAvailable(rideParameters)) {
+                pendingDelegate = new TimeDelegate(view, rideRequestButtonCallback);
+                onLoadFailed(trace);
+                pendingDelegate.finishWithError(EstimateSelector.createProductNoFoundError());
+                return;
+            }
+
+            final TimeDelegate delegate = rideParameters.getDropoffLatitude() != null
+                    ? new TimePriceDelegate(view, rideRequestButtonCallback, progressiveLoading)
+                    : new TimeDelegate(view, rideRequestButtonCallback);
+            pendingDelegate = delegate;
+
+            final Runnable startRequests = new Runnable() {
+                @Override
+                public void run() {
+                    startRequests(rideParameters, delegate, trace);
+                }
+            };
+            if (loadScheduler != null) {
+                // Assigned before submitting since the load may complete synchronously from the cache.
+                loadTask = loadScheduler.createTask(startRequests);
+                loadTask.submit(visible);
             } else {
-                pendingDelegate = new TimeDelegate(rideRequestButtonView, rideRequestButtonCallback);
+                startRequests.run();
             }
+        } else {
+            showingEstimates = false;
+            rideRequestButtonView.showDefaultView();
+        }
+    }
+
+    private void startRequests(
+            @NonNull RideParameters rideParameters,
+            @NonNull TimeDelegate delegate,
+            @Nullable LoadTrace trace) {
+        if (delegate != pendingDelegate) {
+            // Superseded by a newer load while queued.
+            return;
+        }
 
-            loadTimeEstimate(
-                    pendingDelegate,
+        final boolean loadPrice = delegate instanceof TimePriceDelegate;
+        pendingRequestCount = loadPrice ? 2 : 1;
+        if (loadPrice) {
+            loadPriceEstimate(
                     rideParameters.getPickupLatitude().floatValue(),
                     rideParameters.getPickupLongitude().floatValue(),
-                    rideParameters.getProductId());
-        } else {
-            rideRequestButtonView.showDefaultView();
+                    rideParameters.getDropoffLatitude().floatValue(),
+                    rideParameters.getDropoffLongitude().floatValue(),
+                    rideParameters.getProductId(),
+                    (TimePriceDelegate) delegate,
+                    trace);
         }
+
+        loadTimeEstimate(
+                delegate,
+                rideParameters.getPickupLatitude().floatValue(),
+                rideParameters.getPickupLongitude().floatValue(),
+                rideParameters.getProductId(),
+                trace);
     }
 
-    private void loadTimeEstimate(
-            @NonNull final TimeDelegate delegate,
-            final float latitude,
-            final float longitude,
-            @Nullable final String productId) {
+    /**
+     * Frees the {@link EstimateLoadScheduler} slot once every request of the current load has completed.
+     */
+    private void onRequestFinished() {
+        if (--pendingRequestCount == 0 && loadTask != null) {
+            loadTask.finish();
+            loadTask = null;
+        }
+    }
 
-        timeEstimateCall = ridesService.getPickupTimeEstimate(latitude, longitude, productId);
+    /**
+     * @return false if the product catalog knows the requested product is unavailable at the pickup location.
+     */
+    private boolean checkProductAvailable(@NonNull RideParameters rideParameters) {
+        final String productId = rideParameters.getProductId();
+        if (productId == null) {
+            return true;
+        }
 
-        timeEstimateCall.enqueue(new Callback<TimeEstimatesResponse>() {
-            @Override
-            public void onResponse(Call<TimeEstimatesResponse> call, Response<TimeEstimatesResponse> response) {
-                final ApiError apiError = ErrorParser.parseError(response);
-                if (apiError != null) {
-                    delegate.finishWithError(apiError);
-                    return;
-                }
+        final double latitude = rideParameters.getPickupLatitude();
+        final double longitude = rideParameters.getPickupLongitude();
+        final RidesService ridesService = getRidesService();
+        final Object scope = requestCoordinator.getScope(ridesService);
+        final Boolean available = productCatalog.isProductAvailable(scope, latitude, longitude, productId);
+        if (available == null) {
+            productCatalog.prefetch(ridesService, scope, latitude, longitude);
+            return true;
+        }
+        return available;
+    }
 
-                final List<TimeEstimate> estimates = response.body().getTimes();
-                if (estimates == null || estimates.size() < 1) {
-                    delegate.finishWithError(createProductNoFoundError());
-                    return;
-                }
+    /**
+     * Shows the persisted estimates on a cold start only, while nothing fresher is on screen or in memory. Refreshes
+     * and reloads keep the estimates already shown until the new ones arrive.
+     */
+    private void showSnapshot(@NonNull RideParameters rideParameters) {
+        if (snapshotStore == null || rideRequestButtonView == null || showingEstimates || isCached(rideParameters)) {
+            return;
+        }
 
-                final TimeEstimate timeEstimate =
-                        (productId == null) ? estimates.get(0) : findTimeEstimate(productId, estimates);
+        final EstimateSnapshot snapshot = snapshotStore.get(createTimeKey(rideParameters),
+                createPriceKey(rideParameters), rideParameters.getProductId());
+        if (snapshot != null) {
+            rideRequestButtonView.showStaleEstimate(snapshot);
+        }
+    }
 
-                if (timeEstimate == null) {
-                    delegate.finishWithError(createProductNoFoundError());
-                    return;
-                }
+    /**
+     * @return true if the estimate cache holds fresh estimates for every request of {@code rideParameters}.
+     */
+    private boolean isCached(@NonNull RideParameters rideParameters) {
+        final RidesService ridesService = getRidesService();
+        final EstimateCache cache = requestCoordinator.getEstimateCache();
+        final EstimateKey timeKey = requestCoordinator.scope(ridesService, createTimeKey(rideParameters));
+        if (cache.getTimeEstimatesAgeMillis(timeKey) < 0) {
+            return false;
+        }
+        final EstimateKey tripKey = createPriceKey(rideParameters);
+        return tripKey == null
+                || cache.getPriceEstimatesAgeMillis(requestCoordinator.scope(ridesService, tripKey)) >= 0;
+    }
 
-                delegate.onTimeReceived(timeEstimate);
-            }
+    @NonNull
+    private static EstimateKey createTimeKey(@NonNull RideParameters rideParameters) {
+        return EstimateKey.forPickup(rideParameters.getPickupLatitude().floatValue(),
+                rideParameters.getPickupLongitude().floatValue());
+    }
 
-            @Override
-            public void onFailure(Call<TimeEstimatesResponse> call, Throwable throwable) {
-                delegate.finishWithError(throwable);
-            }
-        });
+    @Nullable
+    private static EstimateKey createPriceKey(@NonNull RideParameters rideParameters) {
+        if (rideParameters.getDropoffLatitude() == null) {
+            return null;
+        }
+        return EstimateKey.forTrip(rideParameters.getPickupLatitude().floatValue(),
+                rideParameters.getPickupLongitude().floatValue(),
+                rideParameters.getDropoffLatitude().floatValue(),
+                rideParameters.getDropoffLongitude().floatValue());
+    }
+
+    private void loadTimeEstimate(
+            @NonNull final TimeDelegate delegate,
+            final float latitude,
+            final float longitude,
+            @Nullable final String productId,
+            @Nullable final LoadTrace trace) {
+
+        final RidesService ridesService = getRidesService();
+        timeEstimateSubscription = requestCoordinator.loadTimeEstimates(ridesService, latitude, longitude,
+                new EstimatesCallback<TimeEstimatesResponse>() {
+                    @Override
+                    public void onEstimatesLoaded(
+                            @NonNull TimeEstimatesResponse response,
+                            @NonNull EstimateSource source) {
+                        onRequestFinished();
+                        if (trace != null) {
+                            trace.onTimeEstimateResponse(source);
+                        }
+                        final TimeEstimate timeEstimate = requestCoordinator.selectTimeEstimate(ridesService, latitude,
+                                longitude, response, productId);
+                        if (timeEstimate == null) {
+                            onLoadFailed(trace);
+                            delegate.finishWithError(EstimateSelector.createProductNoFoundError());
+                            return;
+                        }
+
+                        onEstimateLoaded();
+                        delegate.onTimeReceived(timeEstimate);
+                        if (snapshotStore != null && timeEstimate.getEstimate() != null) {
+                            snapshotStore.putTimeEstimate(EstimateKey.forPickup(latitude, longitude), productId,
+                                    timeEstimate.getEstimate());
+                        }
+                    }
+
+                    @Override
+                    public void onError(@NonNull ApiError apiError) {
+                        onRequestFinished();
+                        onLoadFailed(trace);
+                        delegate.finishWithError(apiError);
+                    }
+
+                    @Override
+                    public void onError(@NonNull Throwable throwable) {
+                        onRequestFinished();
+                        onLoadFailed(trace);
+                        delegate.finishWithError(throwable);
+                    }
+                });
     }
 
     private void loadPriceEstimate(
@@ -183,45 +507,124 @@ public class RideRequestButtonController {
             final float endLatitude,
             final float endLongitude,
             final @Nullable String productId,
-            final TimePriceDelegate delegate) {
-
-        priceEstimateCall = ridesService.getPriceEstimates(startLatitude, startLongitude,
-                endLatitude, endLongitude);
+            final TimePriceDelegate delegate,
+            @Nullable final LoadTrace trace) {
+
+        final RidesService ridesService = getRidesService();
+        priceEstimateSubscription = requestCoordinator.loadPriceEstimates(ridesService, startLatitude,
+                startLongitude, endLatitude, endLongitude, new EstimatesCallback<PriceEstimatesResponse>() {
+                    @Override
+                    public void onEstimatesLoaded(
+                            @NonNull PriceEstimatesResponse response,
+                            @NonNull EstimateSource source) {
+                        onRequestFinished();
+                        if (trace != null) {
+                            trace.onPriceEstimateResponse(source);
+                        }
+                        final PriceEstimate priceEstimate = requestCoordinator.selectPriceEstimate(ridesService,
+                                startLatitude, startLongitude, endLatitude, endLongitude, response, productId);
+                        if (priceEstimate == null) {
+                            onLoadFailed(trace);
+                            delegate.finishWithError(EstimateSelector.createProductNoFoundError());
+                            return;
+                        }
+
+                        onEstimateLoaded();
+                        delegate.onPriceReceived(priceEstimate);
+                        if (snapshotStore != null && priceEstimate.getEstimate() != null) {
+                            snapshotStore.putPriceEstimate(EstimateKey.forTrip(startLatitude, startLongitude,
+                                    endLatitude, endLongitude), productId, priceEstimate.getEstimate(),
+                                    priceEstimate.getDisplayName());
+                        }
+                    }
+
+                    @Override
+                    public void onError(@NonNull ApiError apiError) {
+                        onRequestFinished();
+                        onLoadFailed(trace);
+                        delegate.finishWithError(apiError);
+                    }
+
+                    @Override
+                    public void onError(@NonNull Throwable throwable) {
+                        onRequestFinished();
+                        onLoadFailed(trace);
+                        delegate.finishWithError(throwable);
+                    }
+                });
+    }
 
-        priceEstimateCall.enqueue(new Callback<PriceEstimatesResponse>() {
-            @Override
-            public void onResponse(
-                    Call<PriceEstimatesResponse> call,
-                    Response<PriceEstimatesResponse> response) {
+    /**
+     * Marks the load as shown and resets the refresh backoff once both estimates of the current load arrived, so a
+     * failing price estimate keeps backing off even though the time estimate succeeds.
+     */
+    private void onEstimateLoaded() {
+        if (pendingEstimateCount > 0 && --pendingEstimateCount == 0) {
+            showingEstimates = true;
+            if (refreshScheduler != null) {
+                refreshScheduler.onLoadSucceeded();
+            }
+        }
+    }
 
-                ApiError apiError = ErrorParser.parseError(response);
-                if (apiError != null) {
-                    delegate.finishWithError(apiError);
-                    return;
-                }
+    private void onLoadFailed(@Nullable LoadTrace trace) {
+        if (trace != null) {
+            trace.onLoadFailed();
+        }
+        if (debouncer != null) {
+            debouncer.invalidate();
+        }
+        if (pendingEstimateCount > 0 && refreshScheduler != null) {
+            refreshScheduler.onLoadFailed();
+        }
+        pendingEstimateCount = 0;
+        showingEstimates = false;
+    }
 
-                final List<PriceEstimate> estimates = response.body().getPrices();
-                if (estimates == null || estimates.size() < 1) {
-                    delegate.finishWithError(createProductNoFoundError());
-                    return;
-                }
+    /**
+     * Attaches a controller obtained from {@link RideRequestButtonControllerPool} to a button, acquiring the
+     * {@link RidesService} of its {@link Session} again.
+     */
+    void bind(@NonNull RideRequestButtonView rideRequestButtonView, @Nullable RideRequestButtonCallback callback) {
+        this.rideRequestButtonView = rideRequestButtonView;
+        this.rideRequestButtonCallback = callback;
+        this.pendingDelegate = new TimeDelegate(rideRequestButtonView, callback);
+        if (ridesService == null && session != null && ridesServiceRegistry != null) {
+            ridesService = ridesServiceRegistry.acquire(session);
+        }
+    }
 
-                final PriceEstimate priceEstimate =
-                        (productId == null) ? estimates.get(0) : findPriceEstimate(productId, estimates);
+    /**
+     * Detaches this controller from its button so it can be pooled. In-flight operations are cancelled, settings
+     * are reset to their defaults and the {@link RidesService} is released; the {@link Session} and cached estimates
+     * are kept.
+     */
+    void unbind() {
+        this.rideRequestButtonView = null;
+        this.rideRequestButtonCallback = null;
 
-                if (priceEstimate == null) {
-                    delegate.finishWithError(createProductNoFoundError());
-                    return;
-                }
+        if (debouncer != null) {
+            debouncer.cancel();
+            debouncer = null;
+        }
+        if (refreshScheduler != null) {
+            refreshScheduler.cancel();
+            refreshScheduler = null;
+        }
+        cancelAllPending();
 
-                delegate.onPriceReceived(priceEstimate);
-            }
+        loadedRideParameters = null;
+        showingEstimates = false;
+        snapshotStore = null;
+        timingListener = null;
+        progressiveLoading = false;
+        visible = true;
+        releaseRidesService();
+    }
 
-            @Override
-            public void onFailure(Call<PriceEstimatesResponse> call, Throwable throwable) {
-                delegate.finishWithError(throwable);
-            }
-        });
+    @Nullable
+    Session getSession() {
+        return session;
     }
 
     /**
@@ -231,39 +634,45 @@ public class RideRequestButtonController {
         this.rideRequestButtonView = null;
         this.rideRequestButtonCallback = null;
 
-        cancelAllPending();
-    }
-
-    private void cancelAllPending() {
-        pendingDelegate.finish();
-        if (timeEstimateCall != null) {
-            timeEstimateCall.cancel();
+        if (debouncer != null) {
+            debouncer.cancel();
         }
-
-        if (priceEstimateCall != null) {
-            priceEstimateCall.cancel();
+        if (refreshScheduler != null) {
+            refreshScheduler.cancel();
         }
+        cancelAllPending();
+
+        releaseRidesService();
+        session = null;
     }
 
-    private static ApiError createProductNoFoundError() {
-        return new ApiError(null, Arrays.asList(new ClientError(null, 404, "Product Id requested not found.")));
+    @NonNull
+    private RidesService getRidesService() {
+        return checkNotNull(ridesService, "Controller is not bound to a button.");
     }
 
-    private static TimeEstimate findTimeEstimate(@NonNull String productId, @NonNull List<TimeEstimate> estimates) {
-        for (TimeEstimate estimate : estimates) {
-            if (productId.equals(estimate.getProductId())) {
-                return estimate;
-            }
+    private void releaseRidesService() {
+        if (ridesService != null && session != null && ridesServiceRegistry != null) {
+            ridesServiceRegistry.release(session);
+            ridesService = null;
         }
-        return null;
     }
 
-    private static PriceEstimate findPriceEstimate(@NonNull String productId, @NonNull List<PriceEstimate> estimates) {
-        for (PriceEstimate estimate : estimates) {
-            if (productId.equals(estimate.getProductId())) {
-                return estimate;
-            }
+    private void cancelAllPending() {
+        pendingDelegate.finish();
+        pendingEstimateCount = 0;
+        if (loadTask != null) {
+            loadTask.cancel();
+            loadTask = null;
+        }
+        if (timeEstimateSubscription != null) {
+            timeEstimateSubscription.cancel();
+            timeEstimateSubscription = null;
+        }
+
+        if (priceEstimateSubscription != null) {
+            priceEstimateSubscription.cancel();
+            priceEstimateSubscription = null;
         }
-        return null;
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.android.rides.RideRequestButtonCallback;
+import com.uber.sdk.core.client.Session;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.uber.sdk.android.core.utils.Preconditions.checkState;
+
+/**
+ * Keeps controllers of detached buttons, per {@link Session}, so buttons recycled by a list reuse them instead of
+ * building and tearing down a controller on every attach. Idle controllers release the HTTP stack of their session,
+ * which is dropped once the last button using it detaches, and acquire it again when reused.
+ * <p>
+ * Controllers are kept for the most recently used sessions only. Call {@link #clear(Session)} when
+ * discarding a {@link Session} so its idle controllers do not outlive it.
+ */
+public final class RideRequestButtonControllerPool {
+
+    public static final int DEFAULT_MAX_IDLE_PER_SESSION = 8;
+    public static final int DEFAULT_MAX_IDLE_SESSIONS = 4;
+
+    private static final RideRequestButtonControllerPool INSTANCE = new RideRequestButtonControllerPool();
+
+    /**
+     * Idle controllers per session, least recently used session first. Sessions do not override equals.
+     */
+    @NonNull
+    private final Map<Session, Deque<RideRequestButtonController>> idleControllers =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private int maxIdlePerSession = DEFAULT_MAX_IDLE_PER_SESSION;
+    private int maxIdleSessions = DEFAULT_MAX_IDLE_SESSIONS;
+
+    @VisibleForTesting
+    RideRequestButtonControllerPool() {
+    }
+
+    @NonNull
+    public static RideRequestButtonControllerPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets how many idle controllers are kept for each {@link Session}. Extra controllers are destroyed.
+     */
+    public void setMaxIdlePerSession(int maxIdlePerSession) {
+        checkState(maxIdlePerSession >= 0, "Max idle controllers must not be negative.");
+        final List<RideRequestButtonController> evicted = new ArrayList<>();
+        synchronized (this) {
+            this.maxIdlePerSession = maxIdlePerSession;
+            for (Deque<RideRequestButtonController> controllers : idleControllers.values()) {
+                while (controllers.size() > maxIdlePerSession) {
+                    evicted.add(controllers.removeLast());
+                }
+            }
+        }
+        destroyAll(evicted);
+    }
+
+    /**
+     * Sets for how many {@link Session sessions} idle controllers are kept. The controllers of the least recently
+     * used session are destroyed first. Defaults to {@link #DEFAULT_MAX_IDLE_SESSIONS}.
+     */
+    public void setMaxIdleSessions(int maxIdleSessions) {
+        checkState(maxIdleSessions >= 0, "Max idle sessions must not be negative.");
+        final List<RideRequestButtonController> evicted = new ArrayList<>();
+        synchronized (this) {
+            this.maxIdleSessions = maxIdleSessions;
+            trimSessions(evicted);
+        }
+        destroyAll(evicted);
+    }
+
+    /**
+     * @return an idle controller for {@code session} bound to {@code view}, or a new one if none is idle.
+     */
+    @NonNull
+    public RideRequestButtonController obtain(
+            @NonNull RideRequestButtonView view,
+            @NonNull Session session,
+            @Nullable RideRequestButtonCallback callback) {
+        RideRequestButtonController controller = null;
+        synchronized (this) {
+            final Deque<RideRequestButtonController> controllers = idleControllers.get(session);
+            if (controllers != null) {
+                controller = controllers.poll();
+                if (controllers.isEmpty()) {
+                    idleControllers.remove(session);
+                }
+            }
+        }
+
+        if (controller == null) {
+            return new RideRequestButtonController(view, session, callback);
+        }
+        controller.bind(view, callback);
+        return controller;
+    }
+
+    /**
+     * Cancels the work of {@code controller} and keeps it for reuse. Controllers not created with a {@link Session}
+     * or beyond the pool size are destroyed instead.
+     */
+    public void recycle(@NonNull RideRequestButtonController controller) {
+        controller.unbind();
+
+        final Session session = controller.getSession();
+        final List<RideRequestButtonController> evicted = new ArrayList<>();
+        synchronized (this) {
+            Deque<RideRequestButtonController> controllers = session != null ? idleControllers.get(session) : null;
+            final int idleCount = controllers != null ? controllers.size() : 0;
+            if (session != null && idleCount < maxIdlePerSession) {
+                if (controllers == null) {
+                    controllers = new ArrayDeque<>();
+                    idleControllers.put(session, controllers);
+                }
+                controllers.push(controller);
+                trimSessions(evicted);
+            } else {
+                evicted.add(controller);
+            }
+        }
+        destroyAll(evicted);
+    }
+
+    /**
+     * Destroys the idle controllers of {@code session}, to be called once the host no longer uses it.
+     */
+    public void clear(@NonNull Session session) {
+        final Deque<RideRequestButtonController> controllers;
+        synchronized (this) {
+            controllers = idleControllers.remove(session);
+        }
+        if (controllers != null) {
+            destroyAll(new ArrayList<>(controllers));
+        }
+    }
+
+    /**
+     * Destroys every idle controller.
+     */
+    public void clear() {
+        final List<RideRequestButtonController> evicted = new ArrayList<>();
+        synchronized (this) {
+            for (Deque<RideRequestButtonController> controllers : idleControllers.values()) {
+                evicted.addAll(controllers);
+            }
+            idleControllers.clear();
+        }
+        destroyAll(evicted);
+    }
+
+    @VisibleForTesting
+    synchronized int getIdleCount(@NonNull Session session) {
+        final Deque<RideRequestButtonController> controllers = idleControllers.get(session);
+        return controllers != null ? controllers.size() : 0;
+    }
+
+    private void trimSessions(@NonNull List<RideRequestButtonController> evicted) {
+        final Iterator<Deque<RideRequestButtonController>> iterator = idleControllers.values().iterator();
+        while (idleControllers.size() > maxIdleSessions && iterator.hasNext()) {
+            evicted.addAll(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static void destroyAll(@NonNull List<RideRequestButtonController> controllers) {
+        for (RideRequestButtonController controller : controllers) {
+            controller.destroy();
+        }
+    }
+}
@@ -34,4 +34,32 @@ public interface RideRequestButtonView {
     void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull PriceEstimate priceEstimate);
 
     void showDefaultView();
+
+    /**
+     * Shows {@code timeEstimate}, then runs {@code onRendered} once its text is on screen. Views which set their text
+     * asynchronously override this to run it when the text is applied.
+     */
+    default void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull Runnable onRendered) {
+        showEstimate(timeEstimate);
+        onRendered.run();
+    }
+
+    /**
+     * Shows {@code timeEstimate} and {@code priceEstimate}, then runs {@code onRendered} once both texts are on screen.
+     * Views which set their text asynchronously override this to run it when the texts are applied.
+     */
+    default void showEstimate(
+            @NonNull TimeEstimate timeEstimate,
+            @NonNull PriceEstimate priceEstimate,
+            @NonNull Runnable onRendered) {
+        showEstimate(timeEstimate, priceEstimate);
+        onRendered.run();
+    }
+
+    /**
+     * Shows a last-known estimate while fresh estimates load. Replaced by the next call to any other method. Does
+     * nothing by default, so views written before warm start keep showing their current state.
+     */
+    default void showStaleEstimate(@NonNull EstimateSnapshot snapshot) {
+    }
 }
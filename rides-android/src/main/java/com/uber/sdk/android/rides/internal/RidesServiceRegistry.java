@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.uber.sdk.core.client.Session;
+import com.uber.sdk.rides.client.UberRidesApi;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Hands out one {@link RidesService} per {@link Session} so every consumer using the same session shares the
+ * Retrofit and OkHttp stack, including its connection pool and dispatcher threads. Services are reference counted and
+ * dropped once the last consumer releases them.
+ * <p>
+ * Each service remembers the {@link SessionScope} of the session it was created for, so responses cached for a
+ * dropped service are still served to the next service created with the same credentials.
+ */
+public final class RidesServiceRegistry {
+
+    private static final RidesServiceRegistry INSTANCE = new RidesServiceRegistry(new ServiceFactory() {
+        @NonNull
+        @Override
+        public RidesService create(@NonNull Session session) {
+            return UberRidesApi.with(session)
+                    .build()
+                    .createService();
+        }
+    });
+
+    @NonNull
+    private final ServiceFactory serviceFactory;
+    @NonNull
+    private final Map<Session, Entry> services = new IdentityHashMap<>();
+    @NonNull
+    private final Map<RidesService, SessionScope> scopes = new WeakHashMap<>();
+
+    @VisibleForTesting
+    RidesServiceRegistry(@NonNull ServiceFactory serviceFactory) {
+        this.serviceFactory = serviceFactory;
+    }
+
+    @NonNull
+    public static RidesServiceRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the {@link RidesService} for {@code session}, creating it if needed. Every call must be balanced by a
+     * call to {@link #release(Session)}.
+     */
+    @NonNull
+    public synchronized RidesService acquire(@NonNull Session session) {
+        Entry entry = services.get(session);
+        if (entry == null) {
+            entry = new Entry(serviceFactory.create(session));
+            services.put(session, entry);
+            final SessionScope scope = SessionScope.of(session);
+            if (scope != null) {
+                scopes.put(entry.ridesService, scope);
+            }
+        }
+        entry.referenceCount++;
+        return entry.ridesService;
+    }
+
+    /**
+     * Releases a reference obtained from {@link #acquire(Session)}.
+     */
+    public synchronized void release(@NonNull Session session) {
+        Entry entry = services.get(session);
+        if (entry != null && --entry.referenceCount <= 0) {
+            services.remove(session);
+        }
+    }
+
+    /**
+     * @return the scope of the session {@code ridesService} was created for, or null if it was not created here or
+     * its session has no known configuration.
+     */
+    @Nullable
+    synchronized SessionScope getScope(@NonNull RidesService ridesService) {
+        return scopes.get(ridesService);
+    }
+
+    @VisibleForTesting
+    synchronized int getReferenceCount(@NonNull Session session) {
+        Entry entry = services.get(session);
+        return entry != null ? entry.referenceCount : 0;
+    }
+
+    @VisibleForTesting
+    interface ServiceFactory {
+
+        @NonNull
+        RidesService create(@NonNull Session session);
+    }
+
+    private static final class Entry {
+
+        @NonNull
+        final RidesService ridesService;
+        int referenceCount;
+
+        Entry(@NonNull RidesService ridesService) {
+            this.ridesService = ridesService;
+        }
+    }
+}
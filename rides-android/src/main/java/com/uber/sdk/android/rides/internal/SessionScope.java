@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.uber.sdk.core.auth.AccessToken;
+import com.uber.sdk.core.auth.AccessTokenAuthenticator;
+import com.uber.sdk.core.auth.Authenticator;
+import com.uber.sdk.core.client.Session;
+import com.uber.sdk.core.client.SessionConfiguration;
+
+/**
+ * Identifies the credentials a {@link Session} sends, so responses cached for one session are reused by any other
+ * session, or {@link com.uber.sdk.rides.client.services.RidesService}, created later from the same configuration.
+ * Two scopes are equal when they have the same client id, environment and token.
+ */
+final class SessionScope {
+
+    @Nullable
+    private final String clientId;
+    @Nullable
+    private final SessionConfiguration.Environment environment;
+    @Nullable
+    private final String serverToken;
+    @Nullable
+    private final String accessToken;
+
+    private SessionScope(
+            @Nullable String clientId,
+            @Nullable SessionConfiguration.Environment environment,
+            @Nullable String serverToken,
+            @Nullable String accessToken) {
+        this.clientId = clientId;
+        this.environment = environment;
+        this.serverToken = serverToken;
+        this.accessToken = accessToken;
+    }
+
+    /**
+     * @return the scope of the credentials {@code session} currently uses, or null if its configuration is unknown.
+     */
+    @Nullable
+    static SessionScope of(@NonNull Session session) {
+        final Authenticator authenticator = session.getAuthenticator();
+        final SessionConfiguration config = authenticator != null ? authenticator.getSessionConfiguration() : null;
+        if (config == null) {
+            return null;
+        }
+
+        String accessToken = null;
+        if (authenticator instanceof AccessTokenAuthenticator) {
+            final AccessToken token = ((AccessTokenAuthenticator) authenticator).getTokenStorage().getAccessToken();
+            accessToken = token != null ? token.getToken() : null;
+        }
+        return new SessionScope(config.getClientId(), config.getEnvironment(), config.getServerToken(), accessToken);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        SessionScope that = (SessionScope) o;
+        return environment == that.environment
+                && equals(clientId, that.clientId)
+                && equals(serverToken, that.serverToken)
+                && equals(accessToken, that.accessToken);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = clientId != null ? clientId.hashCode() : 0;
+        result = 31 * result + (environment != null ? environment.hashCode() : 0);
+        result = 31 * result + (serverToken != null ? serverToken.hashCode() : 0);
+        result = 31 * result + (accessToken != null ? accessToken.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        // Tokens are left out so scopes can be logged.
+        return clientId + "/" + environment;
+    }
+
+    private static boolean equals(@Nullable String first, @Nullable String second) {
+        return first != null ? first.equals(second) : second == null;
+    }
+}
@@ -25,16 +25,27 @@ package com.uber.sdk.android.rides.internal;
 import androidx.annotation.NonNull;
 
 import com.uber.sdk.android.rides.RideRequestButtonCallback;
+import com.uber.sdk.android.rides.RideRequestButtonProgressCallback;
+import com.uber.sdk.rides.client.error.ApiError;
 import com.uber.sdk.rides.client.model.PriceEstimate;
 import com.uber.sdk.rides.client.model.TimeEstimate;
 
 class TimePriceDelegate extends TimeDelegate {
 
+    private final boolean progressive;
     private TimeEstimate timeEstimate = null;
     private PriceEstimate priceEstimate = null;
 
     public TimePriceDelegate(RideRequestButtonView view, RideRequestButtonCallback callback) {
+        this(view, callback, false);
+    }
+
+    /**
+     * @param progressive whether to show the Time Estimate on its own while the Price Estimate is loading.
+     */
+    TimePriceDelegate(RideRequestButtonView view, RideRequestButtonCallback callback, boolean progressive) {
         super(view, callback);
+        this.progressive = progressive;
     }
 
     @Override
@@ -43,6 +54,9 @@ class TimePriceDelegate extends TimeDelegate {
             showEstimate(timeEstimate, priceEstimate);
         } else {
             this.timeEstimate = timeEstimate;
+            if (progressive) {
+                showTimeEstimate(timeEstimate);
+            }
         }
     }
 
@@ -54,6 +68,45 @@ class TimePriceDelegate extends TimeDelegate {
         }
     }
 
+    @Override
+    public void finishWithError(ApiError error) {
+        if (isShowingTimeEstimate()) {
+            // Keep the Time Estimate already on screen rather than falling back to the default view.
+            if (callback != null) {
+                callback.onError(error);
+            }
+            finish();
+        } else {
+            super.finishWithError(error);
+        }
+    }
+
+    @Override
+    void finishWithError(Throwable throwable) {
+        if (isShowingTimeEstimate()) {
+            if (callback != null) {
+                callback.onError(throwable);
+            }
+            finish();
+        } else {
+            super.finishWithError(throwable);
+        }
+    }
+
+    private boolean isShowingTimeEstimate() {
+        return progressive && timeEstimate != null;
+    }
+
+    private void showTimeEstimate(@NonNull TimeEstimate timeEstimate) {
+        if (view != null) {
+            view.showEstimate(timeEstimate);
+        }
+
+        if (callback instanceof RideRequestButtonProgressCallback) {
+            ((RideRequestButtonProgressCallback) callback).onTimeEstimateLoaded();
+        }
+    }
+
     private void showEstimate(@NonNull TimeEstimate timeEstimate, @NonNull PriceEstimate priceEstimate) {
         if (view != null) {
             view.showEstimate(timeEstimate, priceEstimate);
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides
+
+import com.uber.sdk.rides.client.error.ApiError
+import com.uber.sdk.rides.client.model.TimeEstimate
+
+/** State of an estimate load emitted by [RideEstimatesLoader.estimateFlow]. */
+sealed class EstimateState {
+
+  /** The request has started and nothing has been received yet. */
+  data object Loading : EstimateState()
+
+  /** The Time Estimate has been received while the Price Estimate is still loading. */
+  data class Partial(val rideParameters: RideParameters, val timeEstimate: TimeEstimate) :
+    EstimateState()
+
+  /** Every requested estimate has been received. */
+  data class Complete(val rideEstimate: RideEstimate) : EstimateState()
+
+  /**
+   * Loading failed. [cause] is an [EstimateException] for API errors, very likely an
+   * [java.io.IOException] otherwise.
+   */
+  data class Error(val cause: Throwable) : EstimateState()
+}
+
+/** Thrown by [RideEstimatesLoader.loadEstimate] when the API returns an error. */
+class EstimateException(val apiError: ApiError) :
+  Exception(apiError.clientErrors?.firstOrNull()?.title)
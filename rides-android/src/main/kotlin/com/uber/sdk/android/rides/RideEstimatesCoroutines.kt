@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides
+
+import com.uber.sdk.android.rides.internal.EstimateRequestCoordinator
+import com.uber.sdk.android.rides.internal.EstimateSelector
+import com.uber.sdk.android.rides.internal.EstimatesCallback
+import com.uber.sdk.rides.client.error.ApiError
+import com.uber.sdk.rides.client.model.PriceEstimate
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse
+import com.uber.sdk.rides.client.model.TimeEstimate
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
+import kotlinx.coroutines.CancellableContinuation
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.async
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.suspendCancellableCoroutine
+
+/**
+ * Loads the estimates for [rideParameters], fetching time and price in parallel. Requests are
+ * shared with other consumers of the same location and cancelled with the calling coroutine once
+ * no other consumer waits on them.
+ *
+ * @throws EstimateException if the API returns an error or the requested product is not available.
+ * @throws IllegalArgumentException if [rideParameters] has no pickup location.
+ */
+suspend fun RideEstimatesLoader.loadEstimate(rideParameters: RideParameters): RideEstimate =
+  coroutineScope {
+    val request = EstimateRequest(rideParameters)
+    val price = request.dropoff?.let { async { awaitPriceEstimate(request) } }
+    val timeEstimate = awaitTimeEstimate(request)
+    RideEstimate(rideParameters, timeEstimate, price?.await())
+  }
+
+/**
+ * Emits [EstimateState.Loading], then [EstimateState.Partial] if the Time Estimate arrives before
+ * the Price Estimate, and finally [EstimateState.Complete] or [EstimateState.Error]. Collection is
+ * cancelled with the collecting scope, which cancels the underlying requests.
+ */
+fun RideEstimatesLoader.estimateFlow(rideParameters: RideParameters): Flow<EstimateState> =
+  channelFlow {
+    send(EstimateState.Loading)
+    try {
+      coroutineScope {
+        val request = EstimateRequest(rideParameters)
+        val price: Deferred<PriceEstimate>? =
+          request.dropoff?.let { async { awaitPriceEstimate(request) } }
+        val timeEstimate = awaitTimeEstimate(request)
+        if (price != null && !price.isCompleted) {
+          send(EstimateState.Partial(rideParameters, timeEstimate))
+        }
+        send(EstimateState.Complete(RideEstimate(rideParameters, timeEstimate, price?.await())))
+      }
+    } catch (e: CancellationException) {
+      throw e
+    } catch (e: Exception) {
+      send(EstimateState.Error(e))
+    }
+  }
+
+private class EstimateRequest(val rideParameters: RideParameters) {
+  val pickupLatitude: Float
+  val pickupLongitude: Float
+  val dropoff: Pair<Float, Float>?
+
+  init {
+    val latitude = rideParameters.pickupLatitude
+    val longitude = rideParameters.pickupLongitude
+    require(latitude != null && longitude != null) {
+      "Pickup location is required to load estimates."
+    }
+    pickupLatitude = latitude.toFloat()
+    pickupLongitude = longitude.toFloat()
+
+    val dropoffLatitude = rideParameters.dropoffLatitude
+    val dropoffLongitude = rideParameters.dropoffLongitude
+    require((dropoffLatitude == null) == (dropoffLongitude == null)) {
+      "Dropoff location requires both latitude and longitude."
+    }
+    dropoff =
+      if (dropoffLatitude != null && dropoffLongitude != null) {
+        dropoffLatitude.toFloat() to dropoffLongitude.toFloat()
+      } else {
+        null
+      }
+  }
+}
+
+private suspend fun RideEstimatesLoader.awaitTimeEstimate(request: EstimateRequest): TimeEstimate {
+  val response =
+    suspendCancellableCoroutine<TimeEstimatesResponse> { continuation ->
+      val subscription =
+        requestCoordinator.loadTimeEstimates(
+          ridesService,
+          request.pickupLatitude,
+          request.pickupLongitude,
+          continuation.asEstimatesCallback(),
+        )
+      continuation.invokeOnCancellation { subscription.cancel() }
+    }
+  return requestCoordinator.selectTimeEstimate(
+    ridesService,
+    request.pickupLatitude,
+    request.pickupLongitude,
+    response,
+    request.rideParameters.productId,
+  ) ?: throw EstimateException(EstimateSelector.createProductNoFoundError())
+}
+
+private suspend fun RideEstimatesLoader.awaitPriceEstimate(
+  request: EstimateRequest
+): PriceEstimate {
+  val dropoff = checkNotNull(request.dropoff)
+  val response =
+    suspendCancellableCoroutine<PriceEstimatesResponse> { continuation ->
+      val subscription: EstimateRequestCoordinator.Subscription =
+        requestCoordinator.loadPriceEstimates(
+          ridesService,
+          request.pickupLatitude,
+          request.pickupLongitude,
+          dropoff.first,
+          dropoff.second,
+          continuation.asEstimatesCallback(),
+        )
+      continuation.invokeOnCancellation { subscription.cancel() }
+    }
+  return requestCoordinator.selectPriceEstimate(
+    ridesService,
+    request.pickupLatitude,
+    request.pickupLongitude,
+    dropoff.first,
+    dropoff.second,
+    response,
+    request.rideParameters.productId,
+  ) ?: throw EstimateException(EstimateSelector.createProductNoFoundError())
+}
+
+private fun <T : Any> CancellableContinuation<T>.asEstimatesCallback(): EstimatesCallback<T> =
+  object : EstimatesCallback<T> {
+    override fun onEstimatesLoaded(response: T) {
+      if (isActive) resume(response)
+    }
+
+    override fun onError(apiError: ApiError) {
+      if (isActive) resumeWithException(EstimateException(apiError))
+    }
+
+    override fun onError(throwable: Throwable) {
+      if (isActive) resumeWithException(throwable)
+    }
+  }
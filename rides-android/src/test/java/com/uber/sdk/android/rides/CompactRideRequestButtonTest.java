@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.android.rides.internal.EstimateSnapshot;
+import com.uber.sdk.android.rides.internal.EstimateTextFormatter;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CompactRideRequestButtonTest extends RobolectricTestBase {
+
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+    private final Executor backgroundExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            backgroundTasks.add(command);
+        }
+    };
+    private final Executor directExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            command.run();
+        }
+    };
+
+    private CompactRideRequestButton button;
+    private TimeEstimate timeEstimate;
+    private PriceEstimate priceEstimate;
+
+    @Before
+    public void setUp() {
+        button = new CompactRideRequestButton(RuntimeEnvironment.getApplication());
+        button.setTextFormatter(new EstimateTextFormatter(backgroundExecutor, directExecutor));
+
+        timeEstimate = mock(TimeEstimate.class);
+        when(timeEstimate.getEstimate()).thenReturn(180);
+        priceEstimate = mock(PriceEstimate.class);
+        when(priceEstimate.getEstimate()).thenReturn("$5-7");
+        when(priceEstimate.getDisplayName()).thenReturn("uberX");
+    }
+
+    @Test
+    public void onCreate_shouldShowDefaultView() {
+        assertThat(button.getContentDescription().toString()).isEqualTo("Ride there with Uber");
+        assertThat(button.getTimeLayout()).isNull();
+        assertThat(button.getPriceLayout()).isNull();
+    }
+
+    @Test
+    public void showEstimate_withTime_shouldShowTimeOnceLaidOut() {
+        Runnable onRendered = mock(Runnable.class);
+
+        button.showEstimate(timeEstimate, onRendered);
+
+        assertThat(button.getTimeLayout()).isNull();
+        verify(onRendered, never()).run();
+
+        runBackgroundTasks();
+
+        assertThat(button.getContentDescription().toString()).isEqualTo("Get a ride 3 MIN AWAY");
+        assertThat(button.getTimeLayout().getText().toString()).isEqualTo("3 MIN AWAY");
+        assertThat(button.getPriceLayout()).isNull();
+        verify(onRendered).run();
+    }
+
+    @Test
+    public void showEstimate_withTimeAndPrice_shouldShowBoth() {
+        button.showEstimate(timeEstimate, priceEstimate);
+        runBackgroundTasks();
+
+        assertThat(button.getContentDescription().toString()).isEqualTo("Get a ride 3 MIN AWAY $5-7 for uberX");
+        assertThat(button.getTimeLayout().getText().toString()).isEqualTo("3 MIN AWAY");
+        assertThat(button.getPriceLayout().getText().toString()).isEqualTo("$5-7 for uberX");
+        assertThat(button.getTimeLayout().getPaint().getAlpha()).isEqualTo(255);
+    }
+
+    @Test
+    public void showStaleEstimate_shouldShowDimmedEstimates() {
+        EstimateSnapshot snapshot = mock(EstimateSnapshot.class);
+        when(snapshot.getTimeEstimateSeconds()).thenReturn(180);
+        when(snapshot.hasPrice()).thenReturn(true);
+        when(snapshot.getPriceEstimate()).thenReturn("$5-7");
+        when(snapshot.getPriceDisplayName()).thenReturn("uberX");
+
+        button.showStaleEstimate(snapshot);
+        runBackgroundTasks();
+
+        assertThat(button.getContentDescription().toString()).isEqualTo("Get a ride 3 MIN AWAY $5-7 for uberX");
+        assertThat(button.getTimeLayout().getPaint().getAlpha()).isLessThan(255);
+        assertThat(button.getPriceLayout().getPaint().getAlpha()).isLessThan(255);
+    }
+
+    @Test
+    public void onLayout_whenNarrowerThanContent_shouldEllipsizeEstimates() {
+        button.showEstimate(timeEstimate, priceEstimate);
+        runBackgroundTasks();
+        button.measure(View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        int priceWidth = button.getPriceLayout().getWidth();
+
+        button.layout(0, 0, button.getMeasuredWidth() - priceWidth / 2, button.getMeasuredHeight());
+
+        assertThat(button.getFittedPriceLayout().getWidth()).isLessThanOrEqualTo(priceWidth - priceWidth / 2);
+        assertThat(button.getFittedPriceLayout().getText().toString()).isEqualTo("$5-7 for uberX");
+        assertThat(button.getPriceLayout().getWidth()).isEqualTo(priceWidth);
+    }
+
+    @Test
+    public void showDefaultView_whenEstimatePending_shouldNotShowEstimate() {
+        Runnable onRendered = mock(Runnable.class);
+        button.showEstimate(timeEstimate, priceEstimate, onRendered);
+
+        button.showDefaultView();
+        runBackgroundTasks();
+
+        assertThat(button.getContentDescription().toString()).isEqualTo("Ride there with Uber");
+        assertThat(button.getTimeLayout()).isNull();
+        assertThat(button.getPriceLayout()).isNull();
+        verify(onRendered, never()).run();
+    }
+
+    private void runBackgroundTasks() {
+        while (!backgroundTasks.isEmpty()) {
+            backgroundTasks.poll().run();
+        }
+    }
+}
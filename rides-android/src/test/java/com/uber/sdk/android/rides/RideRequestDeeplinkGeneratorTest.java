@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides;
+
+import android.content.Context;
+import android.net.Uri;
+
+import com.uber.sdk.android.core.Deeplink;
+import com.uber.sdk.android.core.utils.AppProtocol;
+import com.uber.sdk.android.core.utils.CustomTabsHelper;
+import com.uber.sdk.core.client.SessionConfiguration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.uber.sdk.android.core.SupportedAppType.UBER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link RideRequestDeeplinkGenerator}
+ */
+public class RideRequestDeeplinkGeneratorTest extends RobolectricTestBase {
+
+    private static final SessionConfiguration SESSION_CONFIGURATION = new SessionConfiguration.Builder()
+            .setClientId("client id")
+            .build();
+
+    @Mock Context context;
+    @Mock AppProtocol appProtocol;
+    @Mock CustomTabsHelper customTabsHelper;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+        when(appProtocol.isInstalled(eq(context), eq(UBER))).thenReturn(true);
+    }
+
+    @Test
+    public void generate_shouldMatchBuilder() {
+        List<RideParameters> rideParametersList = Arrays.asList(
+                new RideParameters.Builder().build(),
+                new RideParameters.Builder()
+                        .setProductId("product id")
+                        .setPickupLocation(32.1234, -122.3456, "Pickup & Nick", "1455 Market St, San Francisco")
+                        .setDropoffLocation(1.0E-5, 122.6789, "Drop\u00f6ff", null)
+                        .build(),
+                new RideParameters.Builder()
+                        .setPickupToMyLocation()
+                        .setDropoffLocation(32.5678, -122.6789, null, "Dropoff/Address?")
+                        .build());
+        rideParametersList.get(2).setUserAgent("custom agent");
+
+        for (Deeplink.Fallback fallback : Deeplink.Fallback.values()) {
+            for (boolean installed : new boolean[] { true, false }) {
+                when(appProtocol.isInstalled(eq(context), eq(UBER))).thenReturn(installed);
+                RideRequestDeeplinkGenerator generator = newGenerator(fallback);
+
+                List<Uri> uris = generator.generate(rideParametersList);
+
+                for (int i = 0; i < rideParametersList.size(); i++) {
+                    assertThat(uris.get(i).toString()).isEqualTo(build(rideParametersList.get(i), fallback));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void generate_shouldResolveAppOnce() {
+        RideRequestDeeplinkGenerator generator = newGenerator(Deeplink.Fallback.APP_INSTALL);
+
+        generator.generate(createVenues(10));
+
+        verify(appProtocol, times(1)).isInstalled(context, UBER);
+    }
+
+    @Test
+    public void createDeeplink_shouldUseGeneratedUri() {
+        RideRequestDeeplinkGenerator generator = newGenerator(Deeplink.Fallback.APP_INSTALL);
+        RideParameters rideParameters = createVenues(1).get(0);
+
+        RideRequestDeeplink deeplink = generator.createDeeplink(rideParameters);
+
+        assertThat(deeplink.getUri()).isEqualTo(generator.generate(rideParameters));
+    }
+
+    private RideRequestDeeplinkGenerator newGenerator(Deeplink.Fallback fallback) {
+        return new RideRequestDeeplinkGenerator(context, SESSION_CONFIGURATION, fallback, appProtocol,
+                customTabsHelper);
+    }
+
+    private String build(RideParameters rideParameters, Deeplink.Fallback fallback) {
+        return new RideRequestDeeplink.Builder(context)
+                .setAppProtocol(appProtocol)
+                .setCustomTabsHelper(customTabsHelper)
+                .setRideParameters(rideParameters)
+                .setSessionConfiguration(SESSION_CONFIGURATION)
+                .setFallback(fallback)
+                .build()
+                .getUri()
+                .toString();
+    }
+
+    private static List<RideParameters> createVenues(int count) {
+        List<RideParameters> venues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            venues.add(new RideParameters.Builder()
+                    .setProductId("a1111c8c-c720-46c3-8534-2fcdd730040d")
+                    .setPickupLocation(37.775 + i * 1e-4, -122.418, "Venue " + i, i + " Market St, San Francisco")
+                    .setDropoffLocation(37.8, -122.4, null, null)
+                    .build());
+        }
+        return venues;
+    }
+}
@@ -38,6 +38,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.uber.sdk.android.core.SupportedAppType.UBER;
 import static com.uber.sdk.android.rides.TestUtils.readUriResourceWithUserAgentParam;
@@ -45,6 +48,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -68,6 +72,7 @@ public class RideRequestDeeplinkTest extends RobolectricTestBase {
     @Mock Context context;
     @Mock AppProtocol appProtocol;
     @Mock CustomTabsHelper customTabsHelper;
+    @Mock RideRequestDeeplink.ResolveCallback resolveCallback;
 
     @Before
     public void setup() {
@@ -172,6 +177,43 @@ public class RideRequestDeeplinkTest extends RobolectricTestBase {
         new RideRequestDeeplink.Builder(context).build();
     }
 
+    @Test
+    public void resolve_shouldBuildInBackgroundAndNotifyCallback() throws IOException {
+        String expectedUri = readUriResourceWithUserAgentParam("src/test/resources/deeplinkuris/just_client_provided",
+                USER_AGENT_DEEPLINK);
+        final List<Runnable> backgroundTasks = new ArrayList<>();
+
+        new RideRequestDeeplink.Builder(context)
+                .setAppProtocol(appProtocol)
+                .setRideParameters(new RideParameters.Builder().build())
+                .setSessionConfiguration(new SessionConfiguration.Builder().setClientId("clientId").build())
+                .setExecutors(new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        backgroundTasks.add(command);
+                    }
+                }, new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        command.run();
+                    }
+                })
+                .resolve(resolveCallback);
+
+        verify(appProtocol, never()).isInstalled(any(Context.class), eq(UBER));
+
+        backgroundTasks.get(0).run();
+
+        ArgumentCaptor<RideRequestDeeplink> deeplinkCaptor = ArgumentCaptor.forClass(RideRequestDeeplink.class);
+        verify(resolveCallback).onResolved(deeplinkCaptor.capture());
+        assertThat(deeplinkCaptor.getValue().getUri().toString()).isEqualTo(expectedUri);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void resolve_whenNoRideParams_shouldThrowImmediately() {
+        new RideRequestDeeplink.Builder(context).resolve(resolveCallback);
+    }
+
     @Test
     public void getUri_whenUberAppInstalledAndAppLinkSupported_shouldUseAppLink() throws IOException {
         String expectedUri = readUriResourceWithUserAgentParam
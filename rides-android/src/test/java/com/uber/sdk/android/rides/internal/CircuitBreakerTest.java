@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CircuitBreakerTest {
+
+    @Mock
+    CircuitBreaker.Listener listener;
+
+    private EstimateCacheTest.FakeClock clock;
+    private CircuitBreaker circuitBreaker;
+
+    @Before
+    public void setUp() {
+        clock = new EstimateCacheTest.FakeClock();
+        circuitBreaker = new CircuitBreaker.Builder()
+                .setFailureThreshold(2)
+                .setCoolDown(10, TimeUnit.SECONDS)
+                .setClock(clock)
+                .build();
+        circuitBreaker.setListener(listener);
+    }
+
+    @Test
+    public void onFailure_whenThresholdReached_shouldOpenAndRejectRequests() {
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.ALLOWED);
+
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+        verify(listener).onStateChanged(CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void onSuccess_shouldResetConsecutiveFailures() {
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onSuccess(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void allowRequest_whenCoolDownPassed_shouldLetSingleProbeThrough() {
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        clock.advance(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.PROBE);
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess(CircuitBreaker.Permit.PROBE);
+
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.ALLOWED);
+        verify(listener).onStateChanged(CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN);
+        verify(listener).onStateChanged(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN);
+        verify(listener).onStateChanged(CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void onFailure_whenProbeFails_shouldReopen() {
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        clock.advance(TimeUnit.SECONDS.toMillis(10));
+        circuitBreaker.allowRequest();
+
+        circuitBreaker.onFailure(CircuitBreaker.Permit.PROBE);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+    }
+
+    @Test
+    public void onSuccess_whenNotProbeWhileOpen_shouldStayOpen() {
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+
+        circuitBreaker.onSuccess(CircuitBreaker.Permit.ALLOWED);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+    }
+
+    @Test
+    public void onSuccess_whenNotProbeWhileHalfOpen_shouldKeepProbeInFlight() {
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        clock.advance(TimeUnit.SECONDS.toMillis(10));
+        circuitBreaker.allowRequest();
+
+        circuitBreaker.onSuccess(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+    }
+
+    @Test
+    public void onAbandoned_whenProbeCancelled_shouldAllowAnotherProbe() {
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        circuitBreaker.onFailure(CircuitBreaker.Permit.ALLOWED);
+        clock.advance(TimeUnit.SECONDS.toMillis(10));
+        circuitBreaker.allowRequest();
+
+        circuitBreaker.onAbandoned();
+
+        assertThat(circuitBreaker.allowRequest()).isEqualTo(CircuitBreaker.Permit.PROBE);
+    }
+}
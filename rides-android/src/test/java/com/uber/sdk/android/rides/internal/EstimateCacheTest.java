@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EstimateCacheTest {
+
+    private static final EstimateKey PICKUP = EstimateKey.forPickup(37.775f, -122.418f);
+    private static final EstimateKey OTHER_PICKUP = EstimateKey.forPickup(37.8f, -122.4f);
+    private static final EstimateKey TRIP = EstimateKey.forTrip(37.775f, -122.418f, 37.8f, -122.4f);
+
+    private FakeClock clock;
+    private EstimateCache cache;
+
+    @Before
+    public void setUp() {
+        clock = new FakeClock();
+        cache = new EstimateCache(clock);
+    }
+
+    @Test
+    public void getTimeEstimates_whenPut_shouldReturnResponseAndCountHit() {
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        cache.putTimeEstimates(PICKUP, response);
+
+        assertThat(cache.getTimeEstimates(EstimateKey.forPickup(37.775f, -122.418f))).isSameAs(response);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void getTimeEstimatesIndex_whenResponseCached_shouldIndexFirstEstimateOfEachProduct() {
+        TimeEstimate first = createTimeEstimate("uberx");
+        TimeEstimate second = createTimeEstimate("uberxl");
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        when(response.getTimes()).thenReturn(Arrays.asList(first, second, createTimeEstimate("uberx")));
+        cache.putTimeEstimates(PICKUP, response);
+
+        Map<String, TimeEstimate> index = cache.getTimeEstimatesIndex(PICKUP, response);
+
+        assertThat(index).hasSize(2);
+        assertThat(index.get("uberx")).isSameAs(first);
+        assertThat(index.get("uberxl")).isSameAs(second);
+        assertThat(cache.getTimeEstimatesIndex(PICKUP, mock(TimeEstimatesResponse.class))).isNull();
+        assertThat(cache.getTimeEstimatesIndex(OTHER_PICKUP, response)).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void getTimeEstimates_whenAbsent_shouldCountMiss() {
+        assertThat(cache.getTimeEstimates(PICKUP)).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void getPriceEstimates_shouldNotMatchPickupOnlyKey() {
+        PriceEstimatesResponse response = mock(PriceEstimatesResponse.class);
+        cache.putPriceEstimates(TRIP, response);
+
+        assertThat(cache.getPriceEstimates(PICKUP)).isNull();
+        assertThat(cache.getPriceEstimates(TRIP)).isSameAs(response);
+    }
+
+    @Test
+    public void getTimeEstimates_whenExpired_shouldEvictAndCountMiss() {
+        cache.setTimeToLive(10, TimeUnit.SECONDS);
+        cache.putTimeEstimates(PICKUP, mock(TimeEstimatesResponse.class));
+
+        clock.advance(TimeUnit.SECONDS.toMillis(11));
+
+        assertThat(cache.getTimeEstimates(PICKUP)).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void putTimeEstimates_whenFull_shouldEvictLeastRecentlyUsed() {
+        cache.setMaxEntries(2);
+        EstimateKey third = EstimateKey.forPickup(1f, 1f);
+        cache.putTimeEstimates(PICKUP, mock(TimeEstimatesResponse.class));
+        cache.putTimeEstimates(OTHER_PICKUP, mock(TimeEstimatesResponse.class));
+
+        cache.getTimeEstimates(PICKUP);
+        cache.putTimeEstimates(third, mock(TimeEstimatesResponse.class));
+
+        assertThat(cache.getTimeEstimates(PICKUP)).isNotNull();
+        assertThat(cache.getTimeEstimates(third)).isNotNull();
+        assertThat(cache.getTimeEstimates(OTHER_PICKUP)).isNull();
+    }
+
+    @Test
+    public void setMaxEntries_whenZero_shouldDisableCaching() {
+        cache.putTimeEstimates(PICKUP, mock(TimeEstimatesResponse.class));
+        cache.setMaxEntries(0);
+        cache.putTimeEstimates(OTHER_PICKUP, mock(TimeEstimatesResponse.class));
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void getTimeEstimatesAgeMillis_shouldReportAgeUntilExpired() {
+        cache.setTimeToLive(10, TimeUnit.SECONDS);
+        assertThat(cache.getTimeEstimatesAgeMillis(PICKUP)).isEqualTo(-1);
+
+        cache.putTimeEstimates(PICKUP, mock(TimeEstimatesResponse.class));
+        clock.advance(TimeUnit.SECONDS.toMillis(4));
+        assertThat(cache.getTimeEstimatesAgeMillis(PICKUP)).isEqualTo(TimeUnit.SECONDS.toMillis(4));
+
+        clock.advance(TimeUnit.SECONDS.toMillis(7));
+        assertThat(cache.getTimeEstimatesAgeMillis(PICKUP)).isEqualTo(-1);
+        assertThat(cache.getHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void getTimeEstimates_whenSpatialReuseAndNearbyPickup_shouldServeNearestEntry() {
+        cache.setSpatialReuse(50, 30, TimeUnit.SECONDS);
+        TimeEstimatesResponse near = mock(TimeEstimatesResponse.class);
+        TimeEstimatesResponse nearest = mock(TimeEstimatesResponse.class);
+        cache.putTimeEstimates(EstimateKey.forPickup(37.7753f, -122.418f), near);
+        cache.putTimeEstimates(EstimateKey.forPickup(37.7751f, -122.418f), nearest);
+
+        assertThat(cache.getTimeEstimates(PICKUP)).isSameAs(nearest);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getNearbyHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void getTimeEstimates_whenSpatialReuseAndPickupOutsideRadius_shouldCountMiss() {
+        cache.setSpatialReuse(50, 30, TimeUnit.SECONDS);
+        cache.putTimeEstimates(EstimateKey.forPickup(37.776f, -122.418f), mock(TimeEstimatesResponse.class));
+
+        assertThat(cache.getTimeEstimates(PICKUP)).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getNearbyHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void getTimeEstimates_whenSpatialReuseAndNearbyEntryTooOld_shouldCountMiss() {
+        cache.setSpatialReuse(50, 10, TimeUnit.SECONDS);
+        cache.putTimeEstimates(EstimateKey.forPickup(37.7751f, -122.418f), mock(TimeEstimatesResponse.class));
+
+        clock.advance(TimeUnit.SECONDS.toMillis(11));
+
+        assertThat(cache.getTimeEstimates(PICKUP)).isNull();
+    }
+
+    @Test
+    public void getPriceEstimates_whenSpatialReuse_shouldRequireNearbyDropoff() {
+        cache.setSpatialReuse(50, 30, TimeUnit.SECONDS);
+        PriceEstimatesResponse response = mock(PriceEstimatesResponse.class);
+        cache.putPriceEstimates(EstimateKey.forTrip(37.7751f, -122.418f, 37.81f, -122.4f), response);
+
+        assertThat(cache.getPriceEstimates(TRIP)).isNull();
+        assertThat(cache.getPriceEstimates(EstimateKey.forTrip(37.775f, -122.418f, 37.8101f, -122.4f)))
+                .isSameAs(response);
+    }
+
+    @Test
+    public void getTimeEstimates_whenOtherScope_shouldNotMatch() {
+        cache.setSpatialReuse(50, 30, TimeUnit.SECONDS);
+        Object scope = new Object();
+        cache.putTimeEstimates(PICKUP.withScope(scope), mock(TimeEstimatesResponse.class));
+        cache.putTimeEstimates(EstimateKey.forPickup(37.7751f, -122.418f).withScope(scope),
+                mock(TimeEstimatesResponse.class));
+
+        assertThat(cache.getTimeEstimates(PICKUP)).isNull();
+        assertThat(cache.getTimeEstimates(PICKUP.withScope(new Object()))).isNull();
+        assertThat(cache.getTimeEstimates(PICKUP.withScope(scope))).isNotNull();
+    }
+
+    @Test
+    public void getTimeEstimates_whenSpatialReuseDisabled_shouldOnlyMatchExactly() {
+        cache.putTimeEstimates(EstimateKey.forPickup(37.7751f, -122.418f), mock(TimeEstimatesResponse.class));
+
+        assertThat(cache.getTimeEstimates(PICKUP)).isNull();
+    }
+
+    private static TimeEstimate createTimeEstimate(String productId) {
+        TimeEstimate timeEstimate = mock(TimeEstimate.class);
+        when(timeEstimate.getProductId()).thenReturn(productId);
+        return timeEstimate;
+    }
+
+    static class FakeClock implements Clock {
+
+        private long now = 1000;
+
+        void advance(long millis) {
+            now += millis;
+        }
+
+        @Override
+        public long elapsedMillis() {
+            return now;
+        }
+    }
+}
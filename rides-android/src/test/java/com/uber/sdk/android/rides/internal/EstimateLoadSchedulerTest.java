@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EstimateLoadSchedulerTest {
+
+    private final List<String> started = new ArrayList<>();
+    private EstimateLoadScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new EstimateLoadScheduler();
+        scheduler.setMaxConcurrentLoads(1);
+    }
+
+    @Test
+    public void submit_whenSlotsFree_shouldStartImmediately() {
+        EstimateLoadScheduler.Task task = submit("first", true);
+
+        assertThat(started).containsExactly("first");
+        assertThat(task.isRunning()).isTrue();
+    }
+
+    @Test
+    public void finish_shouldStartVisibleLoadsFirstAndNewestFirst() {
+        EstimateLoadScheduler.Task running = submit("running", true);
+        submit("hidden", false);
+        submit("older", true);
+        submit("newer", true);
+
+        running.finish();
+
+        assertThat(started).containsExactly("running", "newer");
+        assertThat(scheduler.getQueuedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void setVisible_shouldPromoteQueuedLoad() {
+        EstimateLoadScheduler.Task running = submit("running", true);
+        EstimateLoadScheduler.Task hidden = submit("hidden", false);
+        submit("visible", true);
+
+        hidden.setVisible(true);
+        running.finish();
+
+        assertThat(started).containsExactly("running", "hidden");
+    }
+
+    @Test
+    public void setVisible_whenHidden_shouldDemoteQueuedLoad() {
+        EstimateLoadScheduler.Task running = submit("running", true);
+        submit("first", true);
+        EstimateLoadScheduler.Task second = submit("second", true);
+
+        second.setVisible(false);
+        running.finish();
+
+        assertThat(started).containsExactly("running", "first");
+    }
+
+    @Test
+    public void cancel_whenQueued_shouldNeverStart() {
+        EstimateLoadScheduler.Task running = submit("running", true);
+        EstimateLoadScheduler.Task cancelled = submit("cancelled", true);
+
+        cancelled.cancel();
+        running.cancel();
+
+        assertThat(started).containsExactly("running");
+        assertThat(scheduler.getQueuedCount()).isEqualTo(0);
+        assertThat(scheduler.getRunningCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void finish_whenLoadCompletesSynchronously_shouldStartNextLoad() {
+        final EstimateLoadScheduler.Task[] task = new EstimateLoadScheduler.Task[1];
+        task[0] = scheduler.createTask(new Runnable() {
+            @Override
+            public void run() {
+                started.add("cached");
+                task[0].finish();
+            }
+        });
+        task[0].submit(true);
+        submit("next", true);
+
+        assertThat(started).containsExactly("cached", "next");
+        assertThat(scheduler.getRunningCount()).isEqualTo(1);
+    }
+
+    private EstimateLoadScheduler.Task submit(final String name, boolean visible) {
+        EstimateLoadScheduler.Task task = scheduler.createTask(new Runnable() {
+            @Override
+            public void run() {
+                started.add(name);
+            }
+        });
+        task.submit(visible);
+        return task;
+    }
+}
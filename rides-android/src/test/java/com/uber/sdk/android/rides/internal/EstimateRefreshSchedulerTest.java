@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import android.os.Looper;
+
+import com.uber.sdk.android.rides.RobolectricTestBase;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robolectric.Shadows.shadowOf;
+
+public class EstimateRefreshSchedulerTest extends RobolectricTestBase {
+
+    private int refreshCount;
+    private EstimateRefreshScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new EstimateRefreshScheduler(new Runnable() {
+            @Override
+            public void run() {
+                refreshCount++;
+            }
+        });
+        scheduler.setInterval(1000);
+    }
+
+    @Test
+    public void onLoadSucceeded_shouldRefreshAfterInterval() {
+        scheduler.onLoadSucceeded();
+
+        idleFor(999);
+        assertThat(refreshCount).isEqualTo(0);
+
+        idleFor(1);
+        assertThat(refreshCount).isEqualTo(1);
+    }
+
+    @Test
+    public void onLoadFailed_shouldBackOff() {
+        scheduler.onLoadFailed();
+        idleFor(1999);
+        assertThat(refreshCount).isEqualTo(0);
+        idleFor(1);
+        assertThat(refreshCount).isEqualTo(1);
+
+        scheduler.onLoadFailed();
+        idleFor(3999);
+        assertThat(refreshCount).isEqualTo(1);
+        idleFor(1);
+        assertThat(refreshCount).isEqualTo(2);
+    }
+
+    @Test
+    public void setVisible_whenHidden_shouldPauseAndRunOverdueRefreshOnShow() {
+        scheduler.onLoadSucceeded();
+        scheduler.setVisible(false);
+
+        idleFor(5000);
+        assertThat(refreshCount).isEqualTo(0);
+
+        scheduler.setVisible(true);
+        idleFor(0);
+        assertThat(refreshCount).isEqualTo(1);
+    }
+
+    @Test
+    public void setInterval_whenZero_shouldStopRefreshing() {
+        scheduler.onLoadSucceeded();
+        scheduler.setInterval(0);
+
+        idleFor(5000);
+        assertThat(refreshCount).isEqualTo(0);
+    }
+
+    private static void idleFor(long millis) {
+        shadowOf(Looper.getMainLooper()).idleFor(millis, TimeUnit.MILLISECONDS);
+    }
+}
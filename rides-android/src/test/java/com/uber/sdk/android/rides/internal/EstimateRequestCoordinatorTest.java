@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.android.rides.EstimateSource;
+import com.uber.sdk.core.auth.Authenticator;
+import com.uber.sdk.core.client.Session;
+import com.uber.sdk.core.client.SessionConfiguration;
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EstimateRequestCoordinatorTest {
+
+    private static final float LATITUDE = 37.775f;
+    private static final float LONGITUDE = -122.418f;
+
+    @Mock
+    RidesService ridesService;
+
+    @Mock
+    Call<TimeEstimatesResponse> timeEstimateCall;
+
+    @Mock
+    Call<TimeEstimatesResponse> hedgeCall;
+
+    @Mock
+    RidesService otherRidesService;
+
+    @Mock
+    Call<TimeEstimatesResponse> otherCall;
+
+    @Mock
+    ScheduledExecutorService hedgeExecutor;
+
+    @Mock
+    ScheduledFuture<?> hedgeFuture;
+
+    @Mock
+    EstimatesCallback<TimeEstimatesResponse> firstCallback;
+
+    @Mock
+    EstimatesCallback<TimeEstimatesResponse> secondCallback;
+
+    private EstimateCache estimateCache;
+    private EstimateRequestCoordinator coordinator;
+
+    @Before
+    public void setUp() {
+        estimateCache = new EstimateCache(Clock.SYSTEM);
+        coordinator = new EstimateRequestCoordinator(estimateCache);
+        lenient().when(ridesService.getPickupTimeEstimate(anyFloat(), anyFloat(), isNull()))
+                .thenReturn(timeEstimateCall);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenIdenticalRequestsInFlight_shouldIssueSingleCall() {
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, secondCallback);
+
+        verify(ridesService, times(1)).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+        assertThat(coordinator.getInFlightCount()).isEqualTo(1);
+
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        captureCallback().onResponse(timeEstimateCall, Response.success(response));
+
+        verify(firstCallback).onEstimatesLoaded(response, EstimateSource.NETWORK);
+        verify(secondCallback).onEstimatesLoaded(response, EstimateSource.JOINED);
+        assertThat(coordinator.getInFlightCount()).isEqualTo(0);
+        assertThat(estimateCache.getTimeEstimates(createKey(ridesService))).isSameAs(response);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenCached_shouldNotIssueCall() {
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        estimateCache.putTimeEstimates(createKey(ridesService), response);
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+
+        verify(firstCallback).onEstimatesLoaded(response, EstimateSource.CACHE);
+        verify(ridesService, never()).getPickupTimeEstimate(anyFloat(), anyFloat(), any());
+    }
+
+    @Test
+    public void loadTimeEstimates_whenOtherServiceInFlight_shouldIssueSeparateCall() {
+        when(otherRidesService.getPickupTimeEstimate(LATITUDE, LONGITUDE, null)).thenReturn(otherCall);
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        coordinator.loadTimeEstimates(otherRidesService, LATITUDE, LONGITUDE, secondCallback);
+
+        verify(ridesService).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+        verify(otherRidesService).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+        assertThat(coordinator.getInFlightCount()).isEqualTo(2);
+
+        captureCallback().onResponse(timeEstimateCall, Response.<TimeEstimatesResponse>error(401,
+                ResponseBody.create(MediaType.parse("application/json"), "{}")));
+
+        verify(firstCallback).onError(any(ApiError.class));
+        verifyNoInteractions(secondCallback);
+        assertThat(coordinator.getInFlightCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenCachedForOtherService_shouldIssueCall() {
+        estimateCache.putTimeEstimates(createKey(otherRidesService), mock(TimeEstimatesResponse.class));
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+
+        verify(ridesService).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+        verifyNoInteractions(firstCallback);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenServiceRecreatedForSession_shouldServeFromCache() {
+        final Queue<RidesService> services = new ArrayDeque<>(Arrays.asList(ridesService, otherRidesService));
+        RidesServiceRegistry registry = new RidesServiceRegistry(new RidesServiceRegistry.ServiceFactory() {
+            @NonNull
+            @Override
+            public RidesService create(@NonNull Session session) {
+                return services.remove();
+            }
+        });
+        coordinator = new EstimateRequestCoordinator(estimateCache, Clock.SYSTEM, null, null, registry);
+        Session session = createSession();
+
+        coordinator.loadTimeEstimates(registry.acquire(session), LATITUDE, LONGITUDE, firstCallback);
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        captureCallback().onResponse(timeEstimateCall, Response.success(response));
+        registry.release(session);
+
+        coordinator.loadTimeEstimates(registry.acquire(session), LATITUDE, LONGITUDE, secondCallback);
+
+        verify(secondCallback).onEstimatesLoaded(response, EstimateSource.CACHE);
+        verifyNoInteractions(otherRidesService);
+    }
+
+    @Test
+    public void cancel_whenOtherSubscribersRemain_shouldOnlyStopCancelledDelivery() {
+        EstimateRequestCoordinator.Subscription first =
+                coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, secondCallback);
+
+        first.cancel();
+
+        verify(timeEstimateCall, never()).cancel();
+
+        IOException failure = new IOException();
+        captureCallback().onFailure(timeEstimateCall, failure);
+
+        verifyNoInteractions(firstCallback);
+        verify(secondCallback).onError(failure);
+    }
+
+    @Test
+    public void cancel_whenLastSubscriber_shouldCancelCall() {
+        EstimateRequestCoordinator.Subscription first =
+                coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        EstimateRequestCoordinator.Subscription second =
+                coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, secondCallback);
+
+        first.cancel();
+        second.cancel();
+
+        verify(timeEstimateCall).cancel();
+        assertThat(coordinator.getInFlightCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenHedgeDelayElapses_shouldUseFirstResponseAndCancelOther() {
+        coordinator = createHedgingCoordinator(100);
+        when(ridesService.getPickupTimeEstimate(LATITUDE, LONGITUDE, null)).thenReturn(timeEstimateCall, hedgeCall);
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        captureHedge().run();
+
+        verify(ridesService, times(2)).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        captureCallback(hedgeCall).onResponse(hedgeCall, Response.success(response));
+        captureCallback().onFailure(timeEstimateCall, new IOException("Canceled"));
+
+        verify(timeEstimateCall).cancel();
+        verify(firstCallback).onEstimatesLoaded(response, EstimateSource.NETWORK);
+        verify(firstCallback, never()).onError(any(Throwable.class));
+        assertThat(coordinator.getHedgingPolicy().getHedgeCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenHedgeBudgetExhausted_shouldNotHedge() {
+        coordinator = createHedgingCoordinator(0);
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        captureHedge().run();
+
+        verify(ridesService, times(1)).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+        assertThat(coordinator.getHedgingPolicy().getHedgeCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenOverRate_shouldDelayCall() {
+        RateLimiter rateLimiter = new RateLimiter(Clock.SYSTEM);
+        rateLimiter.setRate(1, 1);
+        coordinator = new EstimateRequestCoordinator(estimateCache, Clock.SYSTEM, hedgeExecutor, rateLimiter);
+        doReturn(hedgeFuture).when(hedgeExecutor).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        coordinator.loadTimeEstimates(ridesService, LATITUDE + 1, LONGITUDE, secondCallback);
+
+        verify(ridesService, times(1)).getPickupTimeEstimate(anyFloat(), anyFloat(), isNull());
+        verify(secondCallback, never()).onError(any(ApiError.class));
+        assertThat(coordinator.getInFlightCount()).isEqualTo(2);
+
+        ArgumentCaptor<Runnable> sendCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(hedgeExecutor).schedule(sendCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        sendCaptor.getValue().run();
+
+        verify(ridesService).getPickupTimeEstimate(LATITUDE + 1, LONGITUDE, null);
+        assertThat(rateLimiter.getShedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenServerRateLimited_shouldFailWithoutCall() {
+        RateLimiter rateLimiter = new RateLimiter(Clock.SYSTEM);
+        coordinator = new EstimateRequestCoordinator(estimateCache, Clock.SYSTEM, null, rateLimiter);
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        captureCallback().onResponse(timeEstimateCall, Response.<TimeEstimatesResponse>error(429,
+                ResponseBody.create(MediaType.parse("application/json"), "{}")));
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE + 1, LONGITUDE, secondCallback);
+
+        verify(ridesService, times(1)).getPickupTimeEstimate(anyFloat(), anyFloat(), isNull());
+        ArgumentCaptor<ApiError> errorCaptor = ArgumentCaptor.forClass(ApiError.class);
+        verify(secondCallback).onError(errorCaptor.capture());
+        assertThat(errorCaptor.getValue().getClientErrors().get(0).getStatus()).isEqualTo(429);
+        assertThat(rateLimiter.getShedCount()).isEqualTo(1);
+        assertThat(coordinator.getInFlightCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenCircuitOpen_shouldFailWithoutCall() {
+        coordinator.setCircuitBreaker(new CircuitBreaker.Builder().setFailureThreshold(1).build());
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        captureCallback().onFailure(timeEstimateCall, new IOException());
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, secondCallback);
+
+        verify(ridesService, times(1)).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+        ArgumentCaptor<ApiError> errorCaptor = ArgumentCaptor.forClass(ApiError.class);
+        verify(secondCallback).onError(errorCaptor.capture());
+        assertThat(errorCaptor.getValue().getClientErrors().get(0).getStatus()).isEqualTo(503);
+        assertThat(coordinator.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenRequestSentBeforeProbeCancelled_shouldKeepProbeSlot() {
+        coordinator.setCircuitBreaker(new CircuitBreaker.Builder()
+                .setFailureThreshold(1)
+                .setCoolDown(0, TimeUnit.MILLISECONDS)
+                .build());
+        doReturn(otherCall).when(ridesService).getPickupTimeEstimate(LATITUDE + 1, LONGITUDE, null);
+        EstimateRequestCoordinator.Subscription earlier =
+                coordinator.loadTimeEstimates(ridesService, LATITUDE + 1, LONGITUDE, secondCallback);
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        captureCallback().onFailure(timeEstimateCall, new IOException());
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+
+        earlier.cancel();
+
+        assertThat(coordinator.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(coordinator.getCircuitBreaker().allowRequest()).isEqualTo(CircuitBreaker.Permit.REJECTED);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenRequestSentBeforeCircuitOpenedSucceeds_shouldStayOpen() {
+        coordinator.setCircuitBreaker(new CircuitBreaker.Builder().setFailureThreshold(1).build());
+        doReturn(otherCall).when(ridesService).getPickupTimeEstimate(LATITUDE + 1, LONGITUDE, null);
+        coordinator.loadTimeEstimates(ridesService, LATITUDE + 1, LONGITUDE, secondCallback);
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        captureCallback().onFailure(timeEstimateCall, new IOException());
+
+        captureCallback(otherCall).onResponse(otherCall, Response.success(mock(TimeEstimatesResponse.class)));
+
+        assertThat(coordinator.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void loadTimeEstimates_whenProbe_shouldNotHedge() {
+        coordinator = createHedgingCoordinator(100);
+        coordinator.setCircuitBreaker(new CircuitBreaker.Builder()
+                .setFailureThreshold(1)
+                .setCoolDown(0, TimeUnit.MILLISECONDS)
+                .build());
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, firstCallback);
+        captureCallback().onFailure(timeEstimateCall, new IOException());
+
+        coordinator.loadTimeEstimates(ridesService, LATITUDE, LONGITUDE, secondCallback);
+
+        verify(ridesService, times(2)).getPickupTimeEstimate(LATITUDE, LONGITUDE, null);
+        verify(hedgeExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private static Session createSession() {
+        SessionConfiguration configuration = mock(SessionConfiguration.class);
+        when(configuration.getClientId()).thenReturn("clientId");
+        Authenticator authenticator = mock(Authenticator.class);
+        when(authenticator.getSessionConfiguration()).thenReturn(configuration);
+        Session session = mock(Session.class);
+        when(session.getAuthenticator()).thenReturn(authenticator);
+        return session;
+    }
+
+    private EstimateKey createKey(RidesService service) {
+        return coordinator.scope(service, EstimateKey.forPickup(LATITUDE, LONGITUDE));
+    }
+
+    private EstimateRequestCoordinator createHedgingCoordinator(int maxExtraLoadPercent) {
+        doReturn(hedgeFuture).when(hedgeExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        EstimateRequestCoordinator hedgingCoordinator =
+                new EstimateRequestCoordinator(estimateCache, Clock.SYSTEM, hedgeExecutor);
+        hedgingCoordinator.setHedgingPolicy(new HedgingPolicy.Builder()
+                .setFixedDelay(200, TimeUnit.MILLISECONDS)
+                .setMaxExtraLoadPercent(maxExtraLoadPercent)
+                .build());
+        return hedgingCoordinator;
+    }
+
+    private Runnable captureHedge() {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(hedgeExecutor).schedule(captor.capture(), eq(200L), eq(TimeUnit.MILLISECONDS));
+        return captor.getValue();
+    }
+
+    private Callback<TimeEstimatesResponse> captureCallback() {
+        return captureCallback(timeEstimateCall);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Callback<TimeEstimatesResponse> captureCallback(Call<TimeEstimatesResponse> call) {
+        ArgumentCaptor<Callback<TimeEstimatesResponse>> captor = ArgumentCaptor.forClass(Callback.class);
+        verify(call).enqueue(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.android.rides.RobolectricTestBase;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EstimateSnapshotStoreTest extends RobolectricTestBase {
+
+    private static final EstimateKey PICKUP = EstimateKey.forPickup(37.775f, -122.418f);
+    private static final EstimateKey TRIP = EstimateKey.forTrip(37.775f, -122.418f, 37.8f, -122.4f);
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            command.run();
+        }
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() {
+        file = new File(temporaryFolder.getRoot(), "estimates");
+    }
+
+    @Test
+    public void get_whenWrittenByPreviousInstance_shouldRestoreEstimate() {
+        EstimateSnapshotStore store = new EstimateSnapshotStore(file, DIRECT_EXECUTOR);
+        store.putTimeEstimate(PICKUP, "productId", 240);
+        store.putPriceEstimate(TRIP, "productId", "$15-20", "uberX");
+
+        EstimateSnapshotStore restored = new EstimateSnapshotStore(file, DIRECT_EXECUTOR);
+        restored.load();
+
+        EstimateSnapshot snapshot = restored.get(PICKUP, TRIP, "productId");
+        assertThat(restored.isLoaded()).isTrue();
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.getTimeEstimateSeconds()).isEqualTo(240);
+        assertThat(snapshot.getPriceEstimate()).isEqualTo("$15-20");
+        assertThat(snapshot.getPriceDisplayName()).isEqualTo("uberX");
+    }
+
+    @Test
+    public void get_whenPriceRequiredButMissing_shouldReturnNull() {
+        EstimateSnapshotStore store = new EstimateSnapshotStore(file, DIRECT_EXECUTOR);
+        store.putTimeEstimate(PICKUP, null, 240);
+
+        assertThat(store.get(PICKUP, null, null)).isNotNull();
+        assertThat(store.get(PICKUP, TRIP, null)).isNull();
+        assertThat(store.get(PICKUP, null, "otherProductId")).isNull();
+    }
+
+    @Test
+    public void load_whenFileCorrupt_shouldStartEmpty() throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[] { 1, 2, 3 });
+        out.close();
+
+        EstimateSnapshotStore store = new EstimateSnapshotStore(file, DIRECT_EXECUTOR);
+        store.load();
+
+        assertThat(store.isLoaded()).isTrue();
+        assertThat(store.get(PICKUP, null, null)).isNull();
+    }
+
+    @Test
+    public void putTimeEstimate_whenFull_shouldKeepMostRecentEntries() {
+        EstimateSnapshotStore store = new EstimateSnapshotStore(file, DIRECT_EXECUTOR);
+        for (int i = 0; i <= EstimateSnapshotStore.MAX_ENTRIES; i++) {
+            store.putTimeEstimate(EstimateKey.forPickup(i, i), null, i);
+        }
+
+        assertThat(store.get(EstimateKey.forPickup(0, 0), null, null)).isNull();
+        assertThat(store.get(EstimateKey.forPickup(1, 1), null, null)).isNotNull();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import android.content.res.Resources;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.android.rides.RobolectricTestBase;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EstimateTextFormatterTest extends RobolectricTestBase {
+
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+    private final Executor backgroundExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            backgroundTasks.add(command);
+        }
+    };
+    private final Executor directExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            command.run();
+        }
+    };
+
+    private Resources resources;
+    private EstimateTextFormatter formatter;
+
+    @Before
+    public void setUp() {
+        resources = RuntimeEnvironment.getApplication().getResources();
+        formatter = new EstimateTextFormatter(backgroundExecutor, directExecutor);
+    }
+
+    @Test
+    public void formatTime_shouldFormatMinutes() {
+        assertThat(formatter.formatTime(resources, 180)).isEqualTo("3 MIN AWAY");
+        assertThat(formatter.formatTime(resources, 2 * 60 * 60)).isEqualTo("120 MIN AWAY");
+    }
+
+    @Test
+    public void formatTime_whenCommonValue_shouldReuseCachedString() {
+        assertThat(formatter.formatTime(resources, 180)).isSameAs(formatter.formatTime(resources, 200));
+    }
+
+    @Test
+    public void setTimeText_shouldSetTextOnceComputed() {
+        TextView textView = new TextView(RuntimeEnvironment.getApplication());
+
+        formatter.setTimeText(textView, 180);
+
+        assertThat(textView.getText().toString()).isEmpty();
+
+        backgroundTasks.poll().run();
+
+        assertThat(textView.getText().toString()).isEqualTo("3 MIN AWAY");
+    }
+
+    @Test
+    public void setTimeText_shouldRunOnAppliedOnceTextSet() {
+        final TextView textView = new TextView(RuntimeEnvironment.getApplication());
+        final List<String> appliedTexts = new ArrayList<>();
+
+        formatter.setTimeText(textView, 180, new Runnable() {
+            @Override
+            public void run() {
+                appliedTexts.add(textView.getText().toString());
+            }
+        });
+
+        assertThat(appliedTexts).isEmpty();
+
+        backgroundTasks.poll().run();
+
+        assertThat(appliedTexts).containsExactly("3 MIN AWAY");
+    }
+
+    @Test
+    public void setPriceText_whenCancelled_shouldNotSetText() {
+        TextView textView = new TextView(RuntimeEnvironment.getApplication());
+
+        EstimateTextFormatter.Request request = formatter.setPriceText(textView, "$5-7", "uberX");
+        request.cancel();
+        backgroundTasks.poll().run();
+
+        assertThat(textView.getText().toString()).isEmpty();
+    }
+}
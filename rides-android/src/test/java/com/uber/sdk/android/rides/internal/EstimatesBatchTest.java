@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides.internal;
+
+import com.uber.sdk.android.rides.RideEstimate;
+import com.uber.sdk.android.rides.RideEstimatesLoader;
+import com.uber.sdk.android.rides.RideParameters;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EstimatesBatchTest {
+
+    private static final RideParameters FIRST_VENUE = new RideParameters.Builder()
+            .setPickupLocation(37.775, -122.418, null, null)
+            .build();
+    private static final RideParameters SECOND_VENUE = new RideParameters.Builder()
+            .setPickupLocation(37.8, -122.4, null, null)
+            .build();
+
+    @Mock
+    RidesService ridesService;
+
+    @Mock
+    Call<TimeEstimatesResponse> firstCall;
+
+    @Mock
+    Call<TimeEstimatesResponse> secondCall;
+
+    @Mock
+    RideEstimatesLoader.Callback callback;
+
+    private EstimateRequestCoordinator coordinator;
+
+    @Before
+    public void setUp() {
+        coordinator = new EstimateRequestCoordinator(new EstimateCache(Clock.SYSTEM));
+        when(ridesService.getPickupTimeEstimate(37.775f, -122.418f, null)).thenReturn(firstCall);
+    }
+
+    @Test
+    public void start_whenItemsSharePickup_shouldIssueSingleRequest() {
+        EstimatesBatch batch = new EstimatesBatch(ridesService, coordinator, Clock.SYSTEM, 4,
+                Arrays.asList(FIRST_VENUE, FIRST_VENUE), callback);
+
+        batch.start();
+
+        verify(ridesService, times(1)).getPickupTimeEstimate(37.775f, -122.418f, null);
+
+        capture(firstCall).onResponse(firstCall, Response.success(createResponse()));
+
+        ArgumentCaptor<RideEstimate> estimateCaptor = ArgumentCaptor.forClass(RideEstimate.class);
+        verify(callback).onEstimateLoaded(eq(0), estimateCaptor.capture());
+        verify(callback).onEstimateLoaded(eq(1), any(RideEstimate.class));
+        verify(callback).onBatchComplete(anyLong());
+        assertThat(estimateCaptor.getValue().getTimeEstimate().getEstimate()).isEqualTo(120);
+        assertThat(estimateCaptor.getValue().getPriceEstimate()).isNull();
+    }
+
+    @Test
+    public void start_whenConcurrencyLimitReached_shouldQueueRemainingRequests() {
+        when(ridesService.getPickupTimeEstimate(37.8f, -122.4f, null)).thenReturn(secondCall);
+        EstimatesBatch batch = new EstimatesBatch(ridesService, coordinator, Clock.SYSTEM, 1,
+                Arrays.asList(FIRST_VENUE, SECOND_VENUE), callback);
+
+        batch.start();
+
+        verify(ridesService, never()).getPickupTimeEstimate(37.8f, -122.4f, null);
+
+        capture(firstCall).onResponse(firstCall, Response.success(createResponse()));
+
+        verify(callback).onEstimateLoaded(eq(0), any(RideEstimate.class));
+        verify(ridesService).getPickupTimeEstimate(37.8f, -122.4f, null);
+        verify(callback, never()).onBatchComplete(anyLong());
+    }
+
+    @Test
+    public void cancel_shouldStopDelivery() {
+        EstimatesBatch batch = new EstimatesBatch(ridesService, coordinator, Clock.SYSTEM, 4,
+                Collections.singletonList(FIRST_VENUE), callback);
+
+        batch.start();
+        batch.cancel();
+
+        verify(firstCall).cancel();
+        verify(callback, never()).onEstimateLoaded(anyInt(), any(RideEstimate.class));
+        verify(callback, never()).onBatchComplete(anyLong());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Callback<TimeEstimatesResponse> capture(Call<TimeEstimatesResponse> call) {
+        ArgumentCaptor<Callback<TimeEstimatesResponse>> captor = ArgumentCaptor.forClass(Callback.class);
+        verify(call).enqueue(captor.capture());
+        return captor.getValue();
+    }
+
+    private static TimeEstimatesResponse createResponse() {
+        TimeEstimate timeEstimate = mock(TimeEstimate.class);
+        lenient().when(timeEstimate.getEstimate()).thenReturn(120);
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        when(response.getTimes()).thenReturn(Collections.singletonList(timeEstimate));
+        return response;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void getDelayMillis_whenAdaptive_shouldTrackP95AfterEnoughSamples() {
+        HedgingPolicy policy = new HedgingPolicy.Builder()
+                .setAdaptiveDelay(300, TimeUnit.MILLISECONDS)
+                .build();
+
+        for (int i = 1; i < HedgingPolicy.MIN_LATENCY_SAMPLES; i++) {
+            policy.recordLatency(i * 10);
+        }
+        assertThat(policy.getDelayMillis()).isEqualTo(300);
+
+        for (int i = HedgingPolicy.MIN_LATENCY_SAMPLES; i <= 100; i++) {
+            policy.recordLatency(i * 10);
+        }
+        assertThat(policy.getDelayMillis()).isEqualTo(950);
+    }
+
+    @Test
+    public void tryAcquireHedge_shouldStayWithinExtraLoadBudget() {
+        HedgingPolicy policy = new HedgingPolicy.Builder()
+                .setMaxExtraLoadPercent(10)
+                .build();
+
+        int hedges = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.onRequestSent();
+            if (policy.tryAcquireHedge()) {
+                hedges++;
+            }
+        }
+
+        assertThat(hedges).isEqualTo(10);
+        assertThat(policy.getHedgeCount()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import com.uber.sdk.android.rides.EstimateSource;
+import com.uber.sdk.android.rides.RideParameters;
+import com.uber.sdk.android.rides.RideRequestButtonTimingListener;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LoadTraceTest {
+
+    private static final RideParameters RIDE_PARAMETERS = new RideParameters.Builder()
+            .setPickupLocation(37.775, -122.418, null, null)
+            .build();
+
+    @Mock
+    RideRequestButtonTimingListener listener;
+
+    @Mock
+    RideRequestButtonView view;
+
+    @Mock
+    TimeEstimate timeEstimate;
+
+    private EstimateCacheTest.FakeClock clock;
+    private LoadTrace trace;
+
+    @Before
+    public void setUp() {
+        clock = new EstimateCacheTest.FakeClock();
+        trace = new LoadTrace(listener, clock, RIDE_PARAMETERS);
+    }
+
+    @Test
+    public void onEstimateResponse_shouldReportSourceFromCoordinator() {
+        trace.onTimeEstimateResponse(EstimateSource.CACHE);
+        clock.advance(120);
+        trace.onPriceEstimateResponse(EstimateSource.JOINED);
+
+        String loadId = captureLoadId();
+        verify(listener).onTimeEstimateResponse(loadId, 0, EstimateSource.CACHE);
+        verify(listener).onPriceEstimateResponse(loadId, 120, EstimateSource.JOINED);
+    }
+
+    @Test
+    public void wrap_shouldReportRenderOnceTextApplied() {
+        clock.advance(100);
+
+        trace.wrap(view).showEstimate(timeEstimate);
+
+        ArgumentCaptor<Runnable> onRendered = ArgumentCaptor.forClass(Runnable.class);
+        verify(view).showEstimate(eq(timeEstimate), onRendered.capture());
+        verify(listener, never()).onRendered(any(String.class), anyLong(), anyLong());
+
+        clock.advance(5);
+        onRendered.getValue().run();
+
+        verify(listener).onRendered(captureLoadId(), 105, 5);
+    }
+
+    @Test
+    public void onLoadFailed_shouldOnlyReportOnce() {
+        trace.onLoadFailed();
+        trace.onLoadFailed();
+
+        verify(listener, times(1)).onLoadFailed(any(String.class), anyLong());
+    }
+
+    private String captureLoadId() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(listener).onLoadStarted(captor.capture(), eq(RIDE_PARAMETERS));
+        return captor.getValue();
+    }
+}
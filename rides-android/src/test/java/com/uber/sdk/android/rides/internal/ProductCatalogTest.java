@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import com.uber.sdk.rides.client.model.Product;
+import com.uber.sdk.rides.client.model.ProductsResponse;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductCatalogTest {
+
+    private static final String PRODUCT_ID = "a1111c8c-c720-46c3-8534-2fcdd730040d";
+    private static final Object SCOPE = new Object();
+
+    @Mock
+    RidesService ridesService;
+
+    @Mock
+    Call<ProductsResponse> call;
+
+    private EstimateCacheTest.FakeClock clock;
+    private ProductCatalog catalog;
+
+    @Before
+    public void setUp() {
+        clock = new EstimateCacheTest.FakeClock();
+        catalog = new ProductCatalog(clock, null);
+    }
+
+    @Test
+    public void isProductAvailable_whenCellUnknown_shouldReturnNull() {
+        assertThat(catalog.isProductAvailable(SCOPE, 37.775, -122.418, PRODUCT_ID)).isNull();
+    }
+
+    @Test
+    public void isProductAvailable_whenNearbyLocationInSameCell_shouldUseCatalog() {
+        catalog.putProducts(SCOPE, 37.775, -122.418, Collections.singletonList(PRODUCT_ID));
+
+        assertThat(catalog.isProductAvailable(SCOPE, 37.7752, -122.4181, PRODUCT_ID)).isTrue();
+        assertThat(catalog.isProductAvailable(SCOPE, 37.7752, -122.4181, "unknown")).isFalse();
+        assertThat(catalog.isProductAvailable(SCOPE, 37.8, -122.4, PRODUCT_ID)).isNull();
+    }
+
+    @Test
+    public void isProductAvailable_whenLoadedForOtherScope_shouldReturnNull() {
+        catalog.putProducts(new Object(), 37.775, -122.418, Collections.singletonList(PRODUCT_ID));
+
+        assertThat(catalog.isProductAvailable(SCOPE, 37.775, -122.418, PRODUCT_ID)).isNull();
+    }
+
+    @Test
+    public void isProductAvailable_whenExpired_shouldReturnNull() {
+        catalog.setTimeToLive(1, TimeUnit.MINUTES);
+        catalog.putProducts(SCOPE, 37.775, -122.418, Collections.singletonList(PRODUCT_ID));
+
+        clock.advance(TimeUnit.MINUTES.toMillis(1) + 1);
+
+        assertThat(catalog.isProductAvailable(SCOPE, 37.775, -122.418, PRODUCT_ID)).isNull();
+    }
+
+    @Test
+    public void prefetch_whenLoaded_shouldStoreProductsOfCell() {
+        when(ridesService.getProducts(37.775f, -122.418f)).thenReturn(call);
+
+        catalog.prefetch(ridesService, SCOPE, 37.775, -122.418);
+        catalog.prefetch(ridesService, SCOPE, 37.775, -122.418);
+
+        verify(ridesService, times(1)).getProducts(37.775f, -122.418f);
+
+        Product product = mock(Product.class);
+        when(product.getProductId()).thenReturn(PRODUCT_ID);
+        ProductsResponse response = mock(ProductsResponse.class);
+        when(response.getProducts()).thenReturn(Arrays.asList(product));
+        capture(call).onResponse(call, Response.success(response));
+
+        assertThat(catalog.isProductAvailable(SCOPE, 37.775, -122.418, PRODUCT_ID)).isTrue();
+        assertThat(catalog.isProductAvailable(SCOPE, 37.775, -122.418, "unknown")).isFalse();
+    }
+
+    @Test
+    public void prefetch_whenFailed_shouldLeaveCellUnknown() {
+        when(ridesService.getProducts(37.775f, -122.418f)).thenReturn(call);
+
+        catalog.prefetch(ridesService, SCOPE, 37.775, -122.418);
+        capture(call).onFailure(call, new IOException());
+
+        assertThat(catalog.isProductAvailable(SCOPE, 37.775, -122.418, PRODUCT_ID)).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Callback<ProductsResponse> capture(Call<ProductsResponse> call) {
+        ArgumentCaptor<Callback<ProductsResponse>> captor = ArgumentCaptor.forClass(Callback.class);
+        verify(call).enqueue(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import com.uber.sdk.android.rides.ProductEstimate;
+import com.uber.sdk.android.rides.RideEstimatesLoader;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductMatrixTest {
+
+    @Test
+    public void join_whenSortedByEta_shouldJoinByProductIdAndSortByPickupTime() {
+        TimeEstimatesResponse timeEstimates = createTimeEstimates(
+                createTimeEstimate("pool", 300),
+                createTimeEstimate("uberX", 120),
+                createTimeEstimate("black", 600));
+        PriceEstimatesResponse priceEstimates = createPriceEstimates(
+                createPriceEstimate("black", 40),
+                createPriceEstimate("uberX", 15),
+                createPriceEstimate("pool", 9));
+
+        List<ProductEstimate> products = ProductMatrix.join(timeEstimates, priceEstimates,
+                RideEstimatesLoader.SortOrder.ETA);
+
+        assertThat(products).extracting("productId").containsExactly("uberX", "pool", "black");
+        assertThat(products.get(0).getTimeEstimate().getEstimate()).isEqualTo(120);
+        assertThat(products.get(0).getPriceEstimate().getLowEstimate()).isEqualTo(15);
+    }
+
+    @Test
+    public void join_whenSortedByLowPrice_shouldSortByPriceAndPutMissingLast() {
+        TimeEstimatesResponse timeEstimates = createTimeEstimates(
+                createTimeEstimate("uberX", 120),
+                createTimeEstimate("pool", 300),
+                createTimeEstimate("assist", 200));
+        PriceEstimatesResponse priceEstimates = createPriceEstimates(
+                createPriceEstimate("uberX", 15),
+                createPriceEstimate("pool", 9));
+
+        List<ProductEstimate> products = ProductMatrix.join(timeEstimates, priceEstimates,
+                RideEstimatesLoader.SortOrder.LOW_PRICE);
+
+        assertThat(products).extracting("productId").containsExactly("pool", "uberX", "assist");
+        assertThat(products.get(2).getPriceEstimate()).isNull();
+    }
+
+    @Test
+    public void join_whenNoPriceEstimates_shouldReturnTimeOnlyProducts() {
+        TimeEstimatesResponse timeEstimates = createTimeEstimates(
+                createTimeEstimate("pool", 300),
+                createTimeEstimate("uberX", 120));
+
+        List<ProductEstimate> products = ProductMatrix.join(timeEstimates, null, RideEstimatesLoader.SortOrder.ETA);
+
+        assertThat(products).extracting("productId").containsExactly("uberX", "pool");
+        assertThat(products.get(0).getPriceEstimate()).isNull();
+    }
+
+    private static TimeEstimate createTimeEstimate(String productId, int estimate) {
+        TimeEstimate timeEstimate = mock(TimeEstimate.class);
+        when(timeEstimate.getProductId()).thenReturn(productId);
+        lenient().when(timeEstimate.getEstimate()).thenReturn(estimate);
+        return timeEstimate;
+    }
+
+    private static PriceEstimate createPriceEstimate(String productId, int lowEstimate) {
+        PriceEstimate priceEstimate = mock(PriceEstimate.class);
+        when(priceEstimate.getProductId()).thenReturn(productId);
+        lenient().when(priceEstimate.getLowEstimate()).thenReturn(lowEstimate);
+        return priceEstimate;
+    }
+
+    private static TimeEstimatesResponse createTimeEstimates(TimeEstimate... estimates) {
+        TimeEstimatesResponse response = mock(TimeEstimatesResponse.class);
+        when(response.getTimes()).thenReturn(Arrays.asList(estimates));
+        return response;
+    }
+
+    private static PriceEstimatesResponse createPriceEstimates(PriceEstimate... estimates) {
+        PriceEstimatesResponse response = mock(PriceEstimatesResponse.class);
+        when(response.getPrices()).thenReturn(Arrays.asList(estimates));
+        return response;
+    }
+}
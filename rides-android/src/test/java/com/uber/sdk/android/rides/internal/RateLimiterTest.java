@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+
+    private EstimateCacheTest.FakeClock clock;
+    private RateLimiter rateLimiter;
+
+    @Before
+    public void setUp() {
+        clock = new EstimateCacheTest.FakeClock();
+        rateLimiter = new RateLimiter(clock);
+        rateLimiter.setRate(2, 1);
+    }
+
+    @Test
+    public void reserve_whenNoRateSet_shouldNeverDelay() {
+        rateLimiter.clearRate();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(rateLimiter.reserve()).isEqualTo(0);
+        }
+        assertThat(rateLimiter.getShedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void reserve_whenBurstExhausted_shouldDelayUntilRefilled() {
+        assertThat(rateLimiter.reserve()).isEqualTo(0);
+        assertThat(rateLimiter.reserve()).isEqualTo(0);
+        assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.SECONDS.toMillis(1));
+        assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.SECONDS.toMillis(2));
+        assertThat(rateLimiter.getShedCount()).isEqualTo(0);
+
+        clock.advance(TimeUnit.SECONDS.toMillis(2));
+
+        assertThat(rateLimiter.reserve()).isEqualTo(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    @Test
+    public void tryAcquire_whenBurstExhausted_shouldSkipUntilRefilled() {
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+        assertThat(rateLimiter.getShedCount()).isEqualTo(0);
+
+        clock.advance(TimeUnit.SECONDS.toMillis(1));
+
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void onResponse_whenRateLimitedWithRetryAfter_shouldShedUntilItPasses() {
+        rateLimiter.clearRate();
+        rateLimiter.onResponse(createResponse(429, "30"));
+
+        clock.advance(TimeUnit.SECONDS.toMillis(29));
+        assertThat(rateLimiter.getPenaltyRemainingMillis()).isEqualTo(TimeUnit.SECONDS.toMillis(1));
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+        assertThat(rateLimiter.tryAcquire()).isFalse();
+
+        clock.advance(TimeUnit.SECONDS.toMillis(1));
+        assertThat(rateLimiter.reserve()).isEqualTo(0);
+        assertThat(rateLimiter.getShedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void onResponse_whenRateLimitedWithoutRetryAfter_shouldUseDefaultPenalty() {
+        rateLimiter.onResponse(createResponse(429, null));
+
+        assertThat(rateLimiter.getPenaltyRemainingMillis()).isEqualTo(RateLimiter.DEFAULT_RETRY_AFTER_MILLIS);
+    }
+
+    @Test
+    public void onResponse_whenNotRateLimited_shouldNotStartPenalty() {
+        rateLimiter.onResponse(createResponse(500, "30"));
+
+        assertThat(rateLimiter.getPenaltyRemainingMillis()).isEqualTo(0);
+        assertThat(rateLimiter.tryAcquire()).isTrue();
+    }
+
+    private static Response<?> createResponse(int code, String retryAfter) {
+        okhttp3.Response.Builder rawResponse = new okhttp3.Response.Builder()
+                .code(code)
+                .message("Error")
+                .protocol(Protocol.HTTP_1_1)
+                .request(new Request.Builder().url("http://localhost/").build());
+        if (retryAfter != null) {
+            rawResponse.header("Retry-After", retryAfter);
+        }
+        return Response.error(ResponseBody.create(MediaType.parse("application/json"), "{}"), rawResponse.build());
+    }
+}
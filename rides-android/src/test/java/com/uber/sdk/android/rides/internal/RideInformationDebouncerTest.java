@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.android.rides.RideParameters;
+import com.uber.sdk.android.rides.RobolectricTestBase;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robolectric.Shadows.shadowOf;
+
+public class RideInformationDebouncerTest extends RobolectricTestBase {
+
+    private final List<RideParameters> loaded = new ArrayList<>();
+    private RideInformationDebouncer debouncer;
+
+    @Before
+    public void setUp() {
+        debouncer = new RideInformationDebouncer(new RideInformationDebouncer.Target() {
+            @Override
+            public void load(@NonNull RideParameters rideParameters) {
+                loaded.add(rideParameters);
+            }
+        });
+    }
+
+    @Test
+    public void submit_whenBurst_shouldLoadLatestAfterQuietPeriod() {
+        debouncer.setDebounce(300, 0);
+        RideParameters latest = createParameters(37.79);
+
+        debouncer.submit(createParameters(37.77));
+        idleFor(100);
+        debouncer.submit(createParameters(37.78));
+        idleFor(100);
+        debouncer.submit(latest);
+
+        idleFor(299);
+        assertThat(loaded).isEmpty();
+
+        idleFor(1);
+        assertThat(loaded).containsExactly(latest);
+    }
+
+    @Test
+    public void submit_whenBurstExceedsMaxWait_shouldLoadAtMaxWait() {
+        debouncer.setDebounce(300, 500);
+        RideParameters latest = createParameters(37.79);
+
+        debouncer.submit(createParameters(37.77));
+        idleFor(200);
+        debouncer.submit(createParameters(37.78));
+        idleFor(200);
+        debouncer.submit(latest);
+
+        idleFor(99);
+        assertThat(loaded).isEmpty();
+
+        idleFor(1);
+        assertThat(loaded).containsExactly(latest);
+    }
+
+    @Test
+    public void submit_whenWithinMinDistance_shouldSkipLoad() {
+        debouncer.setMinDistance(50);
+
+        debouncer.submit(createParameters(37.775));
+        debouncer.submit(createParameters(37.7751));
+        debouncer.submit(createParameters(37.78));
+
+        assertThat(loaded).hasSize(2);
+        assertThat(loaded.get(1).getPickupLatitude()).isEqualTo(37.78);
+    }
+
+    @Test
+    public void submit_whenInvalidated_shouldLoadAgain() {
+        debouncer.setMinDistance(50);
+
+        debouncer.submit(createParameters(37.775));
+        debouncer.invalidate();
+        debouncer.submit(createParameters(37.775));
+
+        assertThat(loaded).hasSize(2);
+    }
+
+    private static void idleFor(long millis) {
+        shadowOf(Looper.getMainLooper()).idleFor(millis, TimeUnit.MILLISECONDS);
+    }
+
+    @NonNull
+    private static RideParameters createParameters(double pickupLatitude) {
+        return new RideParameters.Builder()
+                .setPickupLocation(pickupLatitude, -122.418, null, null)
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.android.rides.RideRequestButtonCallback;
+import com.uber.sdk.core.client.Session;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RideRequestButtonControllerPoolTest {
+
+    @Mock
+    Session session;
+
+    @Mock
+    RideRequestButtonView view;
+
+    @Mock
+    RideRequestButtonCallback callback;
+
+    private RideRequestButtonControllerPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new RideRequestButtonControllerPool();
+    }
+
+    @Test
+    public void obtain_whenControllerRecycled_shouldReuseAndRebindIt() {
+        RideRequestButtonController controller = createController(session);
+
+        pool.recycle(controller);
+        RideRequestButtonController obtained = pool.obtain(view, session, callback);
+
+        assertThat(obtained).isSameAs(controller);
+        verify(controller).unbind();
+        verify(controller).bind(view, callback);
+        verify(controller, never()).destroy();
+        assertThat(pool.getIdleCount(session)).isEqualTo(0);
+    }
+
+    @Test
+    public void recycle_whenPoolFull_shouldDestroyController() {
+        pool.setMaxIdlePerSession(1);
+        RideRequestButtonController first = createController(session);
+        RideRequestButtonController second = createController(session);
+
+        pool.recycle(first);
+        pool.recycle(second);
+
+        verify(first, never()).destroy();
+        verify(second).destroy();
+        assertThat(pool.getIdleCount(session)).isEqualTo(1);
+    }
+
+    @Test
+    public void recycle_whenControllerHasNoSession_shouldDestroyController() {
+        RideRequestButtonController controller = createController(null);
+
+        pool.recycle(controller);
+
+        verify(controller).destroy();
+    }
+
+    @Test
+    public void clear_shouldDestroyIdleControllers() {
+        RideRequestButtonController controller = createController(session);
+        pool.recycle(controller);
+
+        pool.clear();
+
+        verify(controller).destroy();
+        assertThat(pool.getIdleCount(session)).isEqualTo(0);
+    }
+
+    @Test
+    public void clear_whenSession_shouldOnlyDestroyItsIdleControllers() {
+        Session otherSession = mock(Session.class);
+        RideRequestButtonController controller = createController(session);
+        RideRequestButtonController otherController = createController(otherSession);
+        pool.recycle(controller);
+        pool.recycle(otherController);
+
+        pool.clear(session);
+
+        verify(controller).destroy();
+        verify(otherController, never()).destroy();
+        assertThat(pool.getIdleCount(session)).isEqualTo(0);
+        assertThat(pool.getIdleCount(otherSession)).isEqualTo(1);
+    }
+
+    @Test
+    public void recycle_whenTooManySessions_shouldDestroyLeastRecentlyUsedSession() {
+        pool.setMaxIdleSessions(1);
+        Session otherSession = mock(Session.class);
+        RideRequestButtonController controller = createController(session);
+        RideRequestButtonController otherController = createController(otherSession);
+
+        pool.recycle(controller);
+        pool.recycle(otherController);
+
+        verify(controller).destroy();
+        verify(otherController, never()).destroy();
+        assertThat(pool.getIdleCount(session)).isEqualTo(0);
+        assertThat(pool.getIdleCount(otherSession)).isEqualTo(1);
+    }
+
+    @Test
+    public void recycle_whenLastButtonDetached_shouldReleaseRidesService() {
+        RidesServiceRegistry registry = new RidesServiceRegistry(new RidesServiceRegistry.ServiceFactory() {
+            @NonNull
+            @Override
+            public RidesService create(@NonNull Session session) {
+                return mock(RidesService.class);
+            }
+        });
+        RideRequestButtonController controller = new RideRequestButtonController(view, session, registry, callback);
+        assertThat(registry.getReferenceCount(session)).isEqualTo(1);
+
+        pool.recycle(controller);
+
+        assertThat(pool.getIdleCount(session)).isEqualTo(1);
+        assertThat(registry.getReferenceCount(session)).isEqualTo(0);
+
+        assertThat(pool.obtain(view, session, callback)).isSameAs(controller);
+        assertThat(registry.getReferenceCount(session)).isEqualTo(1);
+    }
+
+    private static RideRequestButtonController createController(Session session) {
+        RideRequestButtonController controller = mock(RideRequestButtonController.class);
+        when(controller.getSession()).thenReturn(session);
+        return controller;
+    }
+}
@@ -164,7 +164,8 @@ public class RideRequestButtonControllerTest {
                 .build()
                 .create(RidesService.class);
 
-        controller = new RideRequestButtonController(view, service, callback);
+        controller = new RideRequestButtonController(view, service,
+                new EstimateRequestCoordinator(new EstimateCache(Clock.SYSTEM)), callback);
     }
 
     @After
@@ -618,7 +619,6 @@ public class RideRequestButtonControllerTest {
         stubFor(get(urlPathMatching(TIME_ESTIMATES_API))
                 .withQueryParam("start_latitude", equalTo(String.valueOf(PICKUP_LATITUDE)))
                 .withQueryParam("start_longitude", equalTo(String.valueOf(PICKUP_LONGITUDE)))
-                .withQueryParam("product_id", equalTo(PRODUCT_ID))
                 .willReturn(aResponse().withBodyFile("time_estimate_uberx.json")));
     }
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import androidx.annotation.NonNull;
+
+import com.uber.sdk.core.auth.Authenticator;
+import com.uber.sdk.core.client.Session;
+import com.uber.sdk.core.client.SessionConfiguration;
+import com.uber.sdk.rides.client.services.RidesService;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RidesServiceRegistryTest {
+
+    private RidesServiceRegistry registry;
+    private int createCount;
+
+    @Before
+    public void setUp() {
+        registry = new RidesServiceRegistry(new RidesServiceRegistry.ServiceFactory() {
+            @NonNull
+            @Override
+            public RidesService create(@NonNull Session session) {
+                createCount++;
+                return mock(RidesService.class);
+            }
+        });
+    }
+
+    @Test
+    public void acquire_whenSameSession_shouldShareService() {
+        Session session = mock(Session.class);
+
+        RidesService first = registry.acquire(session);
+        RidesService second = registry.acquire(session);
+
+        assertThat(second).isSameAs(first);
+        assertThat(createCount).isEqualTo(1);
+        assertThat(registry.getReferenceCount(session)).isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_whenDifferentSessions_shouldCreateServicePerSession() {
+        RidesService first = registry.acquire(mock(Session.class));
+        RidesService second = registry.acquire(mock(Session.class));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(createCount).isEqualTo(2);
+    }
+
+    @Test
+    public void release_whenLastReference_shouldDropService() {
+        Session session = mock(Session.class);
+        RidesService first = registry.acquire(session);
+        registry.acquire(session);
+
+        registry.release(session);
+        assertThat(registry.getReferenceCount(session)).isEqualTo(1);
+
+        registry.release(session);
+        assertThat(registry.getReferenceCount(session)).isEqualTo(0);
+        assertThat(registry.acquire(session)).isNotSameAs(first);
+    }
+
+    @Test
+    public void getScope_whenServiceRecreatedForSameConfiguration_shouldKeepScope() {
+        Session session = createSession("clientId", SessionConfiguration.Environment.PRODUCTION);
+        RidesService first = registry.acquire(session);
+        registry.release(session);
+
+        RidesService second = registry.acquire(createSession("clientId", SessionConfiguration.Environment.PRODUCTION));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(registry.getScope(second)).isNotNull().isEqualTo(registry.getScope(first));
+    }
+
+    @Test
+    public void getScope_whenOtherEnvironment_shouldNotMatch() {
+        RidesService production =
+                registry.acquire(createSession("clientId", SessionConfiguration.Environment.PRODUCTION));
+        RidesService sandbox = registry.acquire(createSession("clientId", SessionConfiguration.Environment.SANDBOX));
+
+        assertThat(registry.getScope(sandbox)).isNotEqualTo(registry.getScope(production));
+    }
+
+    @Test
+    public void getScope_whenSessionWithoutConfiguration_shouldBeNull() {
+        assertThat(registry.getScope(registry.acquire(mock(Session.class)))).isNull();
+    }
+
+    private static Session createSession(String clientId, SessionConfiguration.Environment environment) {
+        SessionConfiguration configuration = mock(SessionConfiguration.class);
+        when(configuration.getClientId()).thenReturn(clientId);
+        when(configuration.getEnvironment()).thenReturn(environment);
+        Authenticator authenticator = mock(Authenticator.class);
+        when(authenticator.getSessionConfiguration()).thenReturn(configuration);
+        Session session = mock(Session.class);
+        when(session.getAuthenticator()).thenReturn(authenticator);
+        return session;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.android.rides.internal;
+
+import com.uber.sdk.android.rides.RideRequestButtonProgressCallback;
+import com.uber.sdk.rides.client.error.ApiError;
+import com.uber.sdk.rides.client.model.PriceEstimate;
+import com.uber.sdk.rides.client.model.TimeEstimate;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TimePriceDelegateTest {
+
+    @Mock
+    RideRequestButtonView view;
+
+    @Mock
+    RideRequestButtonProgressCallback callback;
+
+    @Mock
+    TimeEstimate timeEstimate;
+
+    @Mock
+    PriceEstimate priceEstimate;
+
+    @Test
+    public void onTimeReceived_whenNotProgressive_shouldWaitForPrice() {
+        TimePriceDelegate delegate = new TimePriceDelegate(view, callback, false);
+
+        delegate.onTimeReceived(timeEstimate);
+
+        verify(view, never()).showEstimate(any(TimeEstimate.class));
+        verify(callback, never()).onTimeEstimateLoaded();
+
+        delegate.onPriceReceived(priceEstimate);
+
+        verify(view).showEstimate(timeEstimate, priceEstimate);
+        verify(callback).onRideInformationLoaded();
+    }
+
+    @Test
+    public void onTimeReceived_whenProgressive_shouldShowTimeThenUpgrade() {
+        TimePriceDelegate delegate = new TimePriceDelegate(view, callback, true);
+
+        delegate.onTimeReceived(timeEstimate);
+        delegate.onPriceReceived(priceEstimate);
+
+        InOrder inOrder = inOrder(view, callback);
+        inOrder.verify(view).showEstimate(timeEstimate);
+        inOrder.verify(callback).onTimeEstimateLoaded();
+        inOrder.verify(view).showEstimate(timeEstimate, priceEstimate);
+        inOrder.verify(callback).onRideInformationLoaded();
+    }
+
+    @Test
+    public void finishWithError_whenProgressiveTimeShown_shouldKeepTimeEstimate() {
+        TimePriceDelegate delegate = new TimePriceDelegate(view, callback, true);
+        ApiError apiError = new ApiError(null, null);
+
+        delegate.onTimeReceived(timeEstimate);
+        delegate.finishWithError(apiError);
+
+        verify(callback).onError(apiError);
+        verify(view, never()).showDefaultView();
+    }
+}
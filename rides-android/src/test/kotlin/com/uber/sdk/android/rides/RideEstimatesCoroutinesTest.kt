@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.uber.sdk.android.rides
+
+import com.uber.sdk.android.rides.internal.EstimateCache
+import com.uber.sdk.android.rides.internal.EstimateRequestCoordinator
+import com.uber.sdk.rides.client.model.PriceEstimate
+import com.uber.sdk.rides.client.model.PriceEstimatesResponse
+import com.uber.sdk.rides.client.model.TimeEstimate
+import com.uber.sdk.rides.client.model.TimeEstimatesResponse
+import com.uber.sdk.rides.client.services.RidesService
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.doAnswer
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.verify
+import org.mockito.kotlin.whenever
+import retrofit2.Call
+import retrofit2.Callback
+import retrofit2.Response
+
+class RideEstimatesCoroutinesTest {
+  private val ridesService: RidesService = mock()
+  private val timeCall: Call<TimeEstimatesResponse> = mock()
+  private val priceCall: Call<PriceEstimatesResponse> = mock()
+
+  private lateinit var loader: RideEstimatesLoader
+
+  @Before
+  fun setUp() {
+    EstimateCache.getInstance().clear()
+    loader = RideEstimatesLoader(ridesService, EstimateRequestCoordinator.getInstance())
+    whenever(ridesService.getPickupTimeEstimate(PICKUP_LATITUDE, PICKUP_LONGITUDE, null))
+      .thenReturn(timeCall)
+  }
+
+  @Test
+  fun loadEstimate_whenNoDropoff_shouldReturnTimeEstimateOnly() = runTest {
+    respondWithTimeEstimate()
+
+    val rideEstimate = loader.loadEstimate(PICKUP_ONLY)
+
+    assertEquals(120, rideEstimate.timeEstimate.estimate)
+    assertNull(rideEstimate.priceEstimate)
+  }
+
+  @Test
+  fun estimateFlow_whenPriceArrivesLast_shouldEmitPartialThenComplete() = runTest {
+    whenever(
+        ridesService.getPriceEstimates(
+          PICKUP_LATITUDE,
+          PICKUP_LONGITUDE,
+          DROPOFF_LATITUDE,
+          DROPOFF_LONGITUDE,
+        )
+      )
+      .thenReturn(priceCall)
+    respondWithTimeEstimate()
+    val states = mutableListOf<EstimateState>()
+
+    val job = launch { loader.estimateFlow(TRIP).toList(states) }
+    runCurrent()
+
+    assertEquals(EstimateState.Loading, states[0])
+    assertTrue(states[1] is EstimateState.Partial)
+
+    val priceResponse: PriceEstimatesResponse = mock {
+      on { prices } doReturn listOf(mock<PriceEstimate>())
+    }
+    argumentCaptor<Callback<PriceEstimatesResponse>>().apply {
+      verify(priceCall).enqueue(capture())
+      firstValue.onResponse(priceCall, Response.success(priceResponse))
+    }
+    job.join()
+
+    assertEquals(3, states.size)
+    assertTrue(states[2] is EstimateState.Complete)
+  }
+
+  @Test
+  fun estimateFlow_whenCollectorCancelled_shouldCancelRequest() = runTest {
+    val job = launch { loader.estimateFlow(PICKUP_ONLY).collect() }
+    runCurrent()
+
+    job.cancel()
+    runCurrent()
+
+    verify(timeCall).cancel()
+  }
+
+  private fun respondWithTimeEstimate() {
+    val timeEstimate: TimeEstimate = mock { on { estimate } doReturn 120 }
+    val response: TimeEstimatesResponse = mock { on { times } doReturn listOf(timeEstimate) }
+    doAnswer {
+        val callback = it.getArgument<Callback<TimeEstimatesResponse>>(0)
+        callback.onResponse(timeCall, Response.success(response))
+      }
+      .whenever(timeCall)
+      .enqueue(any())
+  }
+
+  private companion object {
+    const val PICKUP_LATITUDE = 37.775f
+    const val PICKUP_LONGITUDE = -122.418f
+    const val DROPOFF_LATITUDE = 37.8f
+    const val DROPOFF_LONGITUDE = -122.4f
+
+    val PICKUP_ONLY: RideParameters =
+      RideParameters.Builder()
+        .setPickupLocation(PICKUP_LATITUDE.toDouble(), PICKUP_LONGITUDE.toDouble(), null, null)
+        .build()
+
+    val TRIP: RideParameters =
+      RideParameters.Builder()
+        .setPickupLocation(PICKUP_LATITUDE.toDouble(), PICKUP_LONGITUDE.toDouble(), null, null)
+        .setDropoffLocation(DROPOFF_LATITUDE.toDouble(), DROPOFF_LONGITUDE.toDouble(), null, null)
+        .build()
+  }
+}
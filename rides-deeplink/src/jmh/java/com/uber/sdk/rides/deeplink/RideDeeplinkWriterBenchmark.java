@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+
+package com.uber.sdk.rides.deeplink;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RideDeeplinkWriter} with encoding every parameter of every link separately, the way a per-link
+ * builder does. Run with {@code ./gradlew :rides-deeplink:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RideDeeplinkWriterBenchmark {
+
+    private static final String CLIENT_ID = "client id";
+    private static final String USER_AGENT = "rides-deeplink-benchmark";
+
+    @Param({"2000"})
+    int linkCount;
+
+    private List<RideLink> links;
+    private RideDeeplinkWriter writer;
+    private StringBuilder out;
+
+    @Setup
+    public void setUp() {
+        links = new ArrayList<>(linkCount);
+        for (int i = 0; i < linkCount; i++) {
+            links.add(new RideLinkParameters.Builder()
+                    .setProductId("a1111c8c-c720-46c3-8534-2fcdd730040d")
+                    .setPickupLocation(37.775 + i * 1e-4, -122.418, "Venue " + i, i + " Market St, San Francisco")
+                    .setDropoffLocation(37.802, -122.405 - i * 1e-4, "Pier 39", "Beach St & The Embarcadero")
+                    .build());
+        }
+        writer = new RideDeeplinkWriter(DeeplinkTarget.APP_LINK, CLIENT_ID, USER_AGENT);
+        out = new StringBuilder(linkCount * 512);
+    }
+
+    @Benchmark
+    public void toUri(Blackhole blackhole) {
+        for (RideLink link : links) {
+            blackhole.consume(writer.toUri(link));
+        }
+    }
+
+    @Benchmark
+    public long writeLines() throws IOException {
+        out.setLength(0);
+        return writer.writeLines(links, out);
+    }
+
+    @Benchmark
+    public void encodeEachParameter(Blackhole blackhole) throws UnsupportedEncodingException {
+        for (RideLink link : links) {
+            final StringBuilder builder = new StringBuilder(DeeplinkTarget.APP_LINK.getBaseUri())
+                    .append("?action=setPickup")
+                    .append("&client_id=").append(encode(CLIENT_ID))
+                    .append("&product_id=").append(encode(link.getProductId()))
+                    .append('&').append(encode("pickup[latitude]")).append('=').append(link.getPickupLatitude())
+                    .append('&').append(encode("pickup[longitude]")).append('=').append(link.getPickupLongitude())
+                    .append('&').append(encode("pickup[nickname]")).append('=')
+                    .append(encode(link.getPickupNickname()))
+                    .append('&').append(encode("pickup[formatted_address]")).append('=')
+                    .append(encode(link.getPickupAddress()))
+                    .append('&').append(encode("dropoff[latitude]")).append('=').append(link.getDropoffLatitude())
+                    .append('&').append(encode("dropoff[longitude]")).append('=')
+                    .append(link.getDropoffLongitude())
+                    .append('&').append(encode("dropoff[nickname]")).append('=')
+                    .append(encode(link.getDropoffNickname()))
+                    .append('&').append(encode("dropoff[formatted_address]")).append('=')
+                    .append(encode(link.getDropoffAddress()))
+                    .append("&user-agent=").append(encode(USER_AGENT));
+            blackhole.consume(builder.toString());
+        }
+    }
+
+    private static String encode(String value) throws UnsupportedEncodingException {
+        return URLEncoder.encode(value, "UTF-8").replace("+", "%20");
+    }
+}
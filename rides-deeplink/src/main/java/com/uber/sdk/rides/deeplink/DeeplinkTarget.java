@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.rides.deeplink;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Where a ride deeplink opens.
+ */
+public enum DeeplinkTarget {
+    /**
+     * The {@code uber:} scheme, handled by the Uber app only.
+     */
+    NATIVE("uber:"),
+    /**
+     * An app link, opening the Uber app when installed and otherwise offering to install it.
+     */
+    APP_LINK("https://m.uber.com/ul/"),
+    /**
+     * The mobile website.
+     */
+    MOBILE_WEB("https://m.uber.com/");
+
+    @Nonnull
+    private final String baseUri;
+
+    DeeplinkTarget(@Nonnull String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * @return the URI the query is appended to.
+     */
+    @Nonnull
+    public String getBaseUri() {
+        return baseUri;
+    }
+}
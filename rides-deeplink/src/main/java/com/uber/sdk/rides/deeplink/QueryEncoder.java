@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.rides.deeplink;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Percent-encodes query keys and values the way Android's {@code Uri.encode(String)} does: letters, digits and
+ * {@code _-!.~'()*} are kept and every other character is written as its UTF-8 bytes in {@code %XX} form.
+ */
+public final class QueryEncoder {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private QueryEncoder() {
+    }
+
+    /**
+     * @return {@code value} encoded, or {@code value} itself when nothing needs encoding.
+     */
+    @Nonnull
+    public static String encode(@Nonnull String value) {
+        int i = 0;
+        while (i < value.length() && isAllowed(value.charAt(i))) {
+            i++;
+        }
+        if (i == value.length()) {
+            return value;
+        }
+
+        final StringBuilder builder = new StringBuilder(value.length() + 16);
+        encode(value, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Writes {@code value} encoded to {@code out} without intermediate strings for the characters that are kept.
+     */
+    public static void encode(@Nonnull CharSequence value, @Nonnull Appendable out) throws IOException {
+        int start = 0;
+        final int length = value.length();
+        while (start < length) {
+            int end = start;
+            while (end < length && isAllowed(value.charAt(end))) {
+                end++;
+            }
+            out.append(value, start, end);
+            if (end == length) {
+                return;
+            }
+
+            start = end;
+            while (end < length && !isAllowed(value.charAt(end))) {
+                end++;
+            }
+            // Encoding the run at once keeps surrogate pairs together.
+            final byte[] bytes = value.subSequence(start, end).toString().getBytes(StandardCharsets.UTF_8);
+            for (byte b : bytes) {
+                out.append('%').append(HEX_DIGITS[(b & 0xf0) >> 4]).append(HEX_DIGITS[b & 0x0f]);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Same as {@link #encode(CharSequence, Appendable)} for a {@link StringBuilder}, which cannot fail.
+     */
+    public static void encode(@Nonnull CharSequence value, @Nonnull StringBuilder out) {
+        try {
+            encode(value, (Appendable) out);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || "_-!.~'()*".indexOf(c) != -1;
+    }
+}
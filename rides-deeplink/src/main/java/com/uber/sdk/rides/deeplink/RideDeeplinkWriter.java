@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.rides.deeplink;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Writes ride request deeplinks, e.g. {@code uber:?action=setPickup&client_id=...&pickup%5Blatitude%5D=...}.
+ * <p>
+ * The target and client id prefix and the location parameter names are encoded once, and links are appended
+ * directly to any {@link Appendable}, so a single writer can stream millions of links to a file or socket. Writers
+ * are immutable and may be shared between threads.
+ */
+public final class RideDeeplinkWriter {
+
+    public static final String ACTION = "action";
+    public static final String SET_PICKUP = "setPickup";
+    public static final String CLIENT_ID = "client_id";
+    public static final String PRODUCT_ID = "product_id";
+    public static final String MY_LOCATION = "my_location";
+    public static final String LATITUDE = "[latitude]";
+    public static final String LONGITUDE = "[longitude]";
+    public static final String NICKNAME = "[nickname]";
+    public static final String FORMATTED_ADDRESS = "[formatted_address]";
+    public static final String USER_AGENT = "user-agent";
+
+    @Nonnull
+    private final String prefix;
+    @Nonnull
+    private final String defaultUserAgent;
+
+    /**
+     * @param target where the links open.
+     * @param clientId the client id of the app the rides are attributed to.
+     * @param defaultUserAgent describing where the links come from, used when none is passed to
+     * {@link #write(RideLink, String, Appendable)}.
+     */
+    public RideDeeplinkWriter(
+            @Nonnull DeeplinkTarget target,
+            @Nonnull String clientId,
+            @Nonnull String defaultUserAgent) {
+        if (clientId == null) {
+            throw new NullPointerException("Must supply client Id.");
+        }
+
+        this.prefix = target.getBaseUri() + '?' + ACTION + '=' + SET_PICKUP
+                + '&' + CLIENT_ID + '=' + QueryEncoder.encode(clientId);
+        this.defaultUserAgent = QueryEncoder.encode(defaultUserAgent);
+    }
+
+    /**
+     * Appends the link for {@code link} with the default user agent to {@code out}.
+     */
+    public void write(@Nonnull RideLink link, @Nonnull Appendable out) throws IOException {
+        write(link, null, out);
+    }
+
+    /**
+     * Appends the link for {@code link} to {@code out}.
+     *
+     * @param userAgent describing where the link comes from, or null for the default user agent.
+     */
+    public void write(@Nonnull RideLink link, @Nullable String userAgent, @Nonnull Appendable out)
+            throws IOException {
+        out.append(prefix);
+        if (link.getProductId() != null) {
+            out.append('&').append(PRODUCT_ID).append('=');
+            QueryEncoder.encode(link.getProductId(), out);
+        }
+        if (link.getPickupLatitude() != null && link.getPickupLongitude() != null) {
+            writeLocation(LocationType.PICKUP, link.getPickupLatitude(), link.getPickupLongitude(),
+                    link.getPickupNickname(), link.getPickupAddress(), out);
+        }
+        if (link.isPickupMyLocation()) {
+            out.append('&').append(LocationType.PICKUP.key).append('=').append(MY_LOCATION);
+        }
+        if (link.getDropoffLatitude() != null && link.getDropoffLongitude() != null) {
+            writeLocation(LocationType.DROPOFF, link.getDropoffLatitude(), link.getDropoffLongitude(),
+                    link.getDropoffNickname(), link.getDropoffAddress(), out);
+        }
+
+        out.append('&').append(USER_AGENT).append('=');
+        if (userAgent != null) {
+            QueryEncoder.encode(userAgent, out);
+        } else {
+            out.append(defaultUserAgent);
+        }
+    }
+
+    /**
+     * @param userAgent describing where the link comes from, or null for the default user agent.
+     * @return the link for {@code link}.
+     */
+    @Nonnull
+    public String toUri(@Nonnull RideLink link, @Nullable String userAgent) {
+        final StringBuilder builder = new StringBuilder(prefix.length() + 256);
+        try {
+            write(link, userAgent, builder);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return the link for {@code link} with the default user agent.
+     */
+    @Nonnull
+    public String toUri(@Nonnull RideLink link) {
+        return toUri(link, null);
+    }
+
+    /**
+     * Appends one link per element of {@code links} to {@code out}, each followed by a line break.
+     *
+     * @return the number of links written.
+     */
+    public long writeLines(@Nonnull Iterable<? extends RideLink> links, @Nonnull Appendable out) throws IOException {
+        long count = 0;
+        for (RideLink link : links) {
+            write(link, null, out);
+            out.append('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private static void writeLocation(
+            @Nonnull LocationType locationType,
+            double latitude,
+            double longitude,
+            @Nullable String nickname,
+            @Nullable String address,
+            @Nonnull Appendable out) throws IOException {
+        // Digits, signs, dots and exponents of a double need no encoding.
+        appendDouble(out.append(locationType.latitudeKey), latitude);
+        appendDouble(out.append(locationType.longitudeKey), longitude);
+        if (nickname != null) {
+            QueryEncoder.encode(nickname, out.append(locationType.nicknameKey));
+        }
+        if (address != null) {
+            QueryEncoder.encode(address, out.append(locationType.addressKey));
+        }
+    }
+
+    private static void appendDouble(@Nonnull Appendable out, double value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+        } else {
+            out.append(Double.toString(value));
+        }
+    }
+
+    private enum LocationType {
+        PICKUP,
+        DROPOFF;
+
+        @Nonnull
+        final String key;
+        /**
+         * The encoded "&amp;key=" separators of the location fields, e.g. {@code &pickup%5Blatitude%5D=}.
+         */
+        @Nonnull
+        final String latitudeKey;
+        @Nonnull
+        final String longitudeKey;
+        @Nonnull
+        final String nicknameKey;
+        @Nonnull
+        final String addressKey;
+
+        LocationType() {
+            key = name().toLowerCase(Locale.ROOT);
+            latitudeKey = encodeKey(key + LATITUDE);
+            longitudeKey = encodeKey(key + LONGITUDE);
+            nicknameKey = encodeKey(key + NICKNAME);
+            addressKey = encodeKey(key + FORMATTED_ADDRESS);
+        }
+
+        @Nonnull
+        private static String encodeKey(@Nonnull String key) {
+            return '&' + QueryEncoder.encode(key) + '=';
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.rides.deeplink;
+
+import javax.annotation.Nullable;
+
+/**
+ * The ride a deeplink requests. Implement it on existing venue or trip types to write links without copying them.
+ * A location is only written when both its latitude and longitude are set.
+ */
+public interface RideLink {
+
+    /**
+     * @return true to request a pickup at the rider's current location.
+     */
+    boolean isPickupMyLocation();
+
+    @Nullable
+    String getProductId();
+
+    @Nullable
+    Double getPickupLatitude();
+
+    @Nullable
+    Double getPickupLongitude();
+
+    @Nullable
+    String getPickupNickname();
+
+    @Nullable
+    String getPickupAddress();
+
+    @Nullable
+    Double getDropoffLatitude();
+
+    @Nullable
+    Double getDropoffLongitude();
+
+    @Nullable
+    String getDropoffNickname();
+
+    @Nullable
+    String getDropoffAddress();
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.rides.deeplink;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable {@link RideLink}, for callers without a type of their own to implement it on.
+ */
+public final class RideLinkParameters implements RideLink {
+
+    private final boolean pickupMyLocation;
+    @Nullable
+    private final String productId;
+    @Nullable
+    private final Double pickupLatitude;
+    @Nullable
+    private final Double pickupLongitude;
+    @Nullable
+    private final String pickupNickname;
+    @Nullable
+    private final String pickupAddress;
+    @Nullable
+    private final Double dropoffLatitude;
+    @Nullable
+    private final Double dropoffLongitude;
+    @Nullable
+    private final String dropoffNickname;
+    @Nullable
+    private final String dropoffAddress;
+
+    private RideLinkParameters(@Nonnull Builder builder) {
+        this.pickupMyLocation = builder.pickupLatitude == null || builder.pickupLongitude == null;
+        this.productId = builder.productId;
+        this.pickupLatitude = builder.pickupLatitude;
+        this.pickupLongitude = builder.pickupLongitude;
+        this.pickupNickname = builder.pickupNickname;
+        this.pickupAddress = builder.pickupAddress;
+        this.dropoffLatitude = builder.dropoffLatitude;
+        this.dropoffLongitude = builder.dropoffLongitude;
+        this.dropoffNickname = builder.dropoffNickname;
+        this.dropoffAddress = builder.dropoffAddress;
+    }
+
+    @Override
+    public boolean isPickupMyLocation() {
+        return pickupMyLocation;
+    }
+
+    @Nullable
+    @Override
+    public String getProductId() {
+        return productId;
+    }
+
+    @Nullable
+    @Override
+    public Double getPickupLatitude() {
+        return pickupLatitude;
+    }
+
+    @Nullable
+    @Override
+    public Double getPickupLongitude() {
+        return pickupLongitude;
+    }
+
+    @Nullable
+    @Override
+    public String getPickupNickname() {
+        return pickupNickname;
+    }
+
+    @Nullable
+    @Override
+    public String getPickupAddress() {
+        return pickupAddress;
+    }
+
+    @Nullable
+    @Override
+    public Double getDropoffLatitude() {
+        return dropoffLatitude;
+    }
+
+    @Nullable
+    @Override
+    public Double getDropoffLongitude() {
+        return dropoffLongitude;
+    }
+
+    @Nullable
+    @Override
+    public String getDropoffNickname() {
+        return dropoffNickname;
+    }
+
+    @Nullable
+    @Override
+    public String getDropoffAddress() {
+        return dropoffAddress;
+    }
+
+    /**
+     * Builder for {@link RideLinkParameters} objects. Without a pickup location, the pickup is the rider's current
+     * location.
+     */
+    public static class Builder {
+
+        @Nullable
+        private String productId;
+        @Nullable
+        private Double pickupLatitude;
+        @Nullable
+        private Double pickupLongitude;
+        @Nullable
+        private String pickupNickname;
+        @Nullable
+        private String pickupAddress;
+        @Nullable
+        private Double dropoffLatitude;
+        @Nullable
+        private Double dropoffLongitude;
+        @Nullable
+        private String dropoffNickname;
+        @Nullable
+        private String dropoffAddress;
+
+        /**
+         * Sets the product ID for the ride.
+         *
+         * @return this instance of {@link Builder}
+         */
+        @Nonnull
+        public Builder setProductId(@Nullable String productId) {
+            this.productId = productId;
+            return this;
+        }
+
+        /**
+         * Sets the pickup location of the ride.
+         *
+         * @return this instance of {@link Builder}
+         */
+        @Nonnull
+        public Builder setPickupLocation(
+                double latitude,
+                double longitude,
+                @Nullable String nickname,
+                @Nullable String address) {
+            this.pickupLatitude = latitude;
+            this.pickupLongitude = longitude;
+            this.pickupNickname = nickname;
+            this.pickupAddress = address;
+            return this;
+        }
+
+        /**
+         * Sets the dropoff location of the ride.
+         *
+         * @return this instance of {@link Builder}
+         */
+        @Nonnull
+        public Builder setDropoffLocation(
+                double latitude,
+                double longitude,
+                @Nullable String nickname,
+                @Nullable String address) {
+            this.dropoffLatitude = latitude;
+            this.dropoffLongitude = longitude;
+            this.dropoffNickname = nickname;
+            this.dropoffAddress = address;
+            return this;
+        }
+
+        @Nonnull
+        public RideLinkParameters build() {
+            return new RideLinkParameters(this);
+        }
+    }
+}
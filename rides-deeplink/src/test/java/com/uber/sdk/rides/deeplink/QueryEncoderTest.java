@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.rides.deeplink;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryEncoderTest {
+
+    @Test
+    public void encode_whenOnlyAllowedCharacters_shouldReturnSameString() {
+        String value = "Az09_-!.~'()*";
+
+        assertThat(QueryEncoder.encode(value)).isSameAs(value);
+    }
+
+    @Test
+    public void encode_shouldPercentEncodeReservedCharacters() {
+        assertThat(QueryEncoder.encode("1455 Market St, San Francisco"))
+                .isEqualTo("1455%20Market%20St%2C%20San%20Francisco");
+        assertThat(QueryEncoder.encode("pickup[latitude]")).isEqualTo("pickup%5Blatitude%5D");
+        assertThat(QueryEncoder.encode("a&b=c?d/e+f%")).isEqualTo("a%26b%3Dc%3Fd%2Fe%2Bf%25");
+    }
+
+    @Test
+    public void encode_shouldWriteUtf8Bytes() {
+        assertThat(QueryEncoder.encode("Drop\u00f6ff")).isEqualTo("Drop%C3%B6ff");
+        assertThat(QueryEncoder.encode("\uD83D\uDE95 taxi")).isEqualTo("%F0%9F%9A%95%20taxi");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Uber Technologies, Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.uber.sdk.rides.deeplink;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RideDeeplinkWriterTest {
+
+    private static final String USER_AGENT = "rides-deeplink-test";
+
+    @Test
+    public void toUri_whenNoLocation_shouldUseMyLocation() {
+        RideDeeplinkWriter writer = new RideDeeplinkWriter(DeeplinkTarget.NATIVE, "clientId", USER_AGENT);
+
+        assertThat(writer.toUri(new RideLinkParameters.Builder().build())).isEqualTo(
+                "uber:?action=setPickup&client_id=clientId&pickup=my_location&user-agent=rides-deeplink-test");
+    }
+
+    @Test
+    public void toUri_whenFullDetails_shouldWriteEveryParameter() {
+        RideDeeplinkWriter writer = new RideDeeplinkWriter(DeeplinkTarget.NATIVE, "clientId", USER_AGENT);
+        RideLink link = new RideLinkParameters.Builder()
+                .setProductId("productId")
+                .setPickupLocation(32.1234, -122.3456, "pickupNick", "Pickup Address")
+                .setDropoffLocation(32.5678, -122.6789, "pickupNick", "Dropoff Address")
+                .build();
+
+        assertThat(writer.toUri(link, "custom agent")).isEqualTo("uber:?action=setPickup&client_id=clientId"
+                + "&product_id=productId&pickup%5Blatitude%5D=32.1234&pickup%5Blongitude%5D=-122.3456"
+                + "&pickup%5Bnickname%5D=pickupNick&pickup%5Bformatted_address%5D=Pickup%20Address"
+                + "&dropoff%5Blatitude%5D=32.5678&dropoff%5Blongitude%5D=-122.6789"
+                + "&dropoff%5Bnickname%5D=pickupNick&dropoff%5Bformatted_address%5D=Dropoff%20Address"
+                + "&user-agent=custom%20agent");
+    }
+
+    @Test
+    public void toUri_shouldPrefixTarget() {
+        RideLink link = new RideLinkParameters.Builder().build();
+
+        assertThat(new RideDeeplinkWriter(DeeplinkTarget.APP_LINK, "client id", USER_AGENT).toUri(link))
+                .startsWith("https://m.uber.com/ul/?action=setPickup&client_id=client%20id&");
+        assertThat(new RideDeeplinkWriter(DeeplinkTarget.MOBILE_WEB, "client id", USER_AGENT).toUri(link))
+                .startsWith("https://m.uber.com/?action=setPickup&client_id=client%20id&");
+    }
+
+    @Test
+    public void write_whenAppendableIsNotStringBuilder_shouldWriteSameLink() throws IOException {
+        RideDeeplinkWriter writer = new RideDeeplinkWriter(DeeplinkTarget.APP_LINK, "clientId", USER_AGENT);
+        RideLink link = new RideLinkParameters.Builder()
+                .setPickupLocation(1.0E-5, -122.3456, null, null)
+                .build();
+        StringWriter out = new StringWriter();
+
+        writer.write(link, out);
+
+        assertThat(out.toString()).isEqualTo(writer.toUri(link));
+        assertThat(out.toString()).contains("pickup%5Blatitude%5D=1.0E-5&");
+    }
+
+    @Test
+    public void writeLines_shouldWriteOneLinkPerLine() throws IOException {
+        RideDeeplinkWriter writer = new RideDeeplinkWriter(DeeplinkTarget.NATIVE, "clientId", USER_AGENT);
+        RideLink first = new RideLinkParameters.Builder().setProductId("first").build();
+        RideLink second = new RideLinkParameters.Builder().setProductId("second").build();
+        StringBuilder out = new StringBuilder();
+
+        long count = writer.writeLines(Arrays.asList(first, second), out);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString()).isEqualTo(writer.toUri(first) + "\n" + writer.toUri(second) + "\n");
+    }
+}
@@ -51,6 +51,7 @@ include(
   ":core",
   ":core-android",
   ":rides-android",
+  ":rides-deeplink",
   ":samples:request-button-sample",
   ":samples:login-sample",
   ":samples:login-with-auth-code-demo",